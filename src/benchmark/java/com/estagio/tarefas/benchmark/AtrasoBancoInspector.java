@@ -0,0 +1,24 @@
+package com.estagio.tarefas.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Simula latência do banco: cada comando SQL espera {@link #atrasoMs} antes de executar, com a conexão
+ * já reservada, como aconteceria numa consulta lenta.
+ */
+public class AtrasoBancoInspector implements StatementInspector {
+
+    static volatile long atrasoMs;
+
+    @Override
+    public String inspect(String sql) {
+        if (atrasoMs > 0) {
+            try {
+                Thread.sleep(atrasoMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,161 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.search.IndiceBuscaTarefas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a busca por termo antiga (LOWER(...) LIKE '%termo%' no H2) com o índice invertido.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="BuscaPorTermoBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BuscaPorTermoBenchmark {
+
+    private static final String CONSULTA_LIKE =
+            "SELECT id, titulo, descricao FROM tarefas " +
+            "WHERE (LOWER(titulo) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "OR LOWER(descricao) LIKE LOWER(CONCAT('%', ?, '%'))) " +
+            "AND id > 0 ORDER BY id LIMIT 51";
+
+    @Param({"100000", "1000000"})
+    private int quantidade;
+
+    @Param({"configura", "proje"})
+    private String termo;
+
+    private Connection conexao;
+    private IndiceBuscaTarefas indice;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:busca" + quantidade + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tarefas");
+            statement.execute("CREATE TABLE tarefas (id BIGINT PRIMARY KEY, titulo VARCHAR(100), descricao VARCHAR(500))");
+        }
+
+        indice = new IndiceBuscaTarefas();
+        GeradorTextos gerador = new GeradorTextos(42);
+        List<TarefaResponseDTO> lote = new ArrayList<>();
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO tarefas (id, titulo, descricao) VALUES (?, ?, ?)")) {
+            for (long id = 1; id <= quantidade; id++) {
+                String titulo = gerador.frase(4);
+                String descricao = gerador.frase(12);
+                insert.setLong(1, id);
+                insert.setString(2, titulo);
+                insert.setString(3, descricao);
+                insert.addBatch();
+
+                TarefaResponseDTO dto = new TarefaResponseDTO();
+                dto.setId(id);
+                dto.setTitulo(titulo);
+                dto.setDescricao(descricao);
+                lote.add(dto);
+
+                if (lote.size() == 1000) {
+                    insert.executeBatch();
+                    indice.indexarLote(lote);
+                    lote.clear();
+                }
+            }
+            insert.executeBatch();
+            indice.indexarLote(lote);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws Exception {
+        indice.fechar();
+        conexao.close();
+    }
+
+    @Benchmark
+    public void consultaLike(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement consulta = conexao.prepareStatement(CONSULTA_LIKE)) {
+            consulta.setString(1, termo);
+            consulta.setString(2, termo);
+            try (ResultSet rs = consulta.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(rs.getLong(1));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void indiceInvertido(Blackhole blackhole) {
+        blackhole.consume(indice.buscar(termo, null, null, 51));
+    }
+
+    static final class GeradorTextos {
+
+        private static final String[] PALAVRAS_BASE = {
+                "integração", "relatório", "migração", "revisão", "análise", "configuração",
+                "reunião", "documentação", "implantação", "correção", "validação", "publicação"
+        };
+        private static final String[] SILABAS = {
+                "ta", "re", "fa", "mi", "gra", "cao", "lo", "ser", "vi", "do", "ban", "co", "pro", "je", "to"
+        };
+
+        private final Random random;
+        private final String[] vocabulario;
+
+        GeradorTextos(long semente) {
+            random = new Random(semente);
+            vocabulario = new String[5000];
+            for (int i = 0; i < vocabulario.length; i++) {
+                if (i < PALAVRAS_BASE.length) {
+                    vocabulario[i] = PALAVRAS_BASE[i];
+                } else {
+                    StringBuilder palavra = new StringBuilder();
+                    int silabas = 2 + random.nextInt(3);
+                    for (int s = 0; s < silabas; s++) {
+                        palavra.append(SILABAS[random.nextInt(SILABAS.length)]);
+                    }
+                    vocabulario[i] = palavra.toString();
+                }
+            }
+        }
+
+        String frase(int palavras) {
+            StringBuilder frase = new StringBuilder();
+            for (int i = 0; i < palavras; i++) {
+                if (i > 0) {
+                    frase.append(' ');
+                }
+                frase.append(vocabulario[random.nextInt(vocabulario.length)]);
+            }
+            return frase.toString();
+        }
+    }
+}
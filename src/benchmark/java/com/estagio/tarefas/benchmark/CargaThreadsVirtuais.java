@@ -0,0 +1,127 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga comparando o Tomcat com threads de plataforma e com threads virtuais sob latência
+ * injetada no banco. Metade dos clientes lista tarefas (consulta ao banco) e a outra metade busca uma tarefa
+ * por ID (servida pelo cache, sem banco).
+ * Execução: mvn -Pbenchmark test-compile exec:exec
+ *   -Dbenchmark.main=com.estagio.tarefas.benchmark.CargaThreadsVirtuais -Djmh.args="[clientes] [segundos] [atrasoMs]"
+ */
+public class CargaThreadsVirtuais {
+
+    public static void main(String[] args) throws Exception {
+        int clientes = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int segundos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        AtrasoBancoInspector.atrasoMs = args.length > 2 ? Long.parseLong(args[2]) : 50;
+
+        System.out.printf("clientes=%d duracao=%ds atraso=%dms%n", clientes, segundos, AtrasoBancoInspector.atrasoMs);
+        System.out.printf("%-11s %-8s %10s %8s %8s %8s %7s%n", "threads", "rota", "req/s", "p50 ms", "p99 ms",
+                "max ms", "erros");
+        for (boolean virtuais : new boolean[]{false, true}) {
+            executar(virtuais, clientes, segundos);
+        }
+        System.exit(0);
+    }
+
+    private static void executar(boolean virtuais, int clientes, int segundos) throws Exception {
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtuais,
+                        "--spring.datasource.url=jdbc:h2:mem:carga" + virtuais + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--tarefas.limite.habilitado=false",
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                                + AtrasoBancoInspector.class.getName(),
+                        "--logging.level.root=WARN");
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        String base = "http://localhost:" + porta + "/api/tarefas";
+        HttpRequest listar = HttpRequest.newBuilder(URI.create(base + "?tamanho=10")).build();
+        HttpRequest buscar = HttpRequest.newBuilder(URI.create(base + "/50")).build();
+
+        HttpClient http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        http.send(buscar, HttpResponse.BodyHandlers.discarding());
+
+        Medicao aquecimento = new Medicao();
+        disparar(http, List.of(listar, buscar), clientes, 5, aquecimento, aquecimento);
+        Medicao medicaoListar = new Medicao();
+        Medicao medicaoBuscar = new Medicao();
+        disparar(http, List.of(listar, buscar), clientes, segundos, medicaoListar, medicaoBuscar);
+
+        String modo = virtuais ? "virtuais" : "plataforma";
+        medicaoListar.imprimir(modo, "listar", segundos);
+        medicaoBuscar.imprimir(modo, "buscar", segundos);
+        contexto.close();
+    }
+
+    private static void disparar(HttpClient http, List<HttpRequest> requisicoes, int clientes, int segundos,
+                                 Medicao medicaoListar, Medicao medicaoBuscar) throws InterruptedException {
+        long fim = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clientes; c++) {
+                boolean lista = c % 2 == 0;
+                executor.submit(() -> {
+                    while (System.nanoTime() < fim) {
+                        Medicao medicao = lista ? medicaoListar : medicaoBuscar;
+                        long inicio = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resposta = http.send(requisicoes.get(lista ? 0 : 1),
+                                    HttpResponse.BodyHandlers.discarding());
+                            medicao.registrar(System.nanoTime() - inicio, resposta.statusCode() == 200);
+                        } catch (Exception e) {
+                            medicao.registrar(System.nanoTime() - inicio, false);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static class Medicao {
+
+        private final ConcurrentLinkedQueue<Long> latencias = new ConcurrentLinkedQueue<>();
+        private final AtomicLong erros = new AtomicLong();
+
+        void registrar(long nanos, boolean sucesso) {
+            latencias.add(nanos);
+            if (!sucesso) {
+                erros.incrementAndGet();
+            }
+        }
+
+        void imprimir(String modo, String rota, int segundos) {
+            long[] ordenadas = latencias.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(ordenadas);
+            System.out.printf("%-11s %-8s %10.0f %8.1f %8.1f %8.1f %7d%n", modo, rota,
+                    ordenadas.length / (double) segundos,
+                    percentil(ordenadas, 0.50), percentil(ordenadas, 0.99),
+                    ordenadas.length == 0 ? 0 : ordenadas[ordenadas.length - 1] / 1e6, erros.get());
+        }
+
+        private static double percentil(long[] ordenadas, double p) {
+            if (ordenadas.length == 0) {
+                return 0;
+            }
+            return ordenadas[(int) Math.min(ordenadas.length - 1, Math.floor(p * ordenadas.length))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.estagio.tarefas.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara dois resultados JMH em JSON (gerados com "-rf json -rff arquivo.json"), por exemplo de dois commits,
+ * e imprime a variação do score de cada benchmark presente nos dois arquivos.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.estagio.tarefas.benchmark.CompararResultados
+ *           -Djmh.args="target/jmh/base.json target/jmh/atual.json"
+ */
+public class CompararResultados {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CompararResultados <base.json> <atual.json>");
+            System.exit(1);
+        }
+        Map<String, JsonNode> base = ler(new File(args[0]));
+        Map<String, JsonNode> atual = ler(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s  %s%n", "Benchmark", "Base", "Atual", "Variação", "Unidade");
+        for (Map.Entry<String, JsonNode> entrada : atual.entrySet()) {
+            JsonNode anterior = base.get(entrada.getKey());
+            double scoreAtual = entrada.getValue().path("score").asDouble();
+            String unidade = entrada.getValue().path("scoreUnit").asText();
+            if (anterior == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", entrada.getKey(), "-", scoreAtual, "novo", unidade);
+                continue;
+            }
+            double scoreBase = anterior.path("score").asDouble();
+            double variacao = scoreBase == 0 ? 0 : (scoreAtual - scoreBase) / scoreBase * 100;
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%n",
+                    entrada.getKey(), scoreBase, scoreAtual, variacao, unidade);
+        }
+    }
+
+    private static Map<String, JsonNode> ler(File arquivo) throws IOException {
+        Map<String, JsonNode> resultados = new LinkedHashMap<>();
+        for (JsonNode resultado : new ObjectMapper().readTree(arquivo)) {
+            StringBuilder chave = new StringBuilder(resultado.path("benchmark").asText()
+                    .replace("com.estagio.tarefas.benchmark.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = resultado.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                chave.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            resultados.put(chave.toString(), resultado.path("primaryMetric"));
+        }
+        return resultados;
+    }
+}
@@ -0,0 +1,73 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão de entidades em TarefaResponseDTO, isolada e para uma página de 500 tarefas.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ConversaoDtoBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversaoDtoBenchmark {
+
+    private static final int PAGINA = 500;
+
+    private Tarefa tarefa;
+    private List<Tarefa> pagina;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        pagina = new ArrayList<>(PAGINA);
+        LocalDateTime agora = LocalDateTime.now();
+        for (int i = 0; i < PAGINA; i++) {
+            Tarefa t = new Tarefa();
+            t.setId((long) i + 1);
+            t.setTitulo("Tarefa " + i);
+            t.setDescricao("Descrição detalhada da tarefa " + i);
+            t.setStatus(StatusTarefa.values()[i % StatusTarefa.values().length]);
+            t.setPrioridade(Prioridade.values()[i % Prioridade.values().length]);
+            t.setDataCriacao(agora.minusMinutes(i));
+            t.setDataAtualizacao(agora);
+            t.setVersao(0L);
+            pagina.add(t);
+        }
+        tarefa = pagina.get(0);
+    }
+
+    @Benchmark
+    public TarefaResponseDTO fromEntity() {
+        return TarefaResponseDTO.fromEntity(tarefa);
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> fromEntityPagina() {
+        List<TarefaResponseDTO> dtos = new ArrayList<>(pagina.size());
+        for (Tarefa t : pagina) {
+            dtos.add(TarefaResponseDTO.fromEntity(t));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,84 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.Application;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.service.TarefaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a criação de tarefas uma a uma (caminho do POST /api/tarefas) com o POST /api/tarefas/lote.
+ * O resultado é dado em inserções por segundo.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="CriacaoLoteBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CriacaoLoteBenchmark {
+
+    private static final int ITENS = 5000;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private List<TarefaRequestDTO> lote;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:lote;DB_CLOSE_DELAY=-1",
+                        "--spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        tarefaService = contexto.getBean(TarefaService.class);
+
+        lote = new ArrayList<>(ITENS);
+        for (int i = 0; i < ITENS; i++) {
+            lote.add(new TarefaRequestDTO("Tarefa importada " + i, "Descrição da tarefa importada " + i,
+                    StatusTarefa.PENDENTE, Prioridade.values()[i % Prioridade.values().length]));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITENS)
+    public void criarUmaAUma(Blackhole blackhole) {
+        for (TarefaRequestDTO dto : lote) {
+            blackhole.consume(tarefaService.criar(dto));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITENS)
+    public void criarEmLote(Blackhole blackhole) {
+        blackhole.consume(tarefaService.criarLote(lote));
+    }
+}
@@ -0,0 +1,127 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.search.IndiceFiltroTarefas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o filtro por vários status e prioridades no H2 (IN + COUNT por grupo) com os bitmaps em memória.
+ * Os dois medem os IDs da primeira página e as contagens; a leitura das linhas da página é igual nos dois.
+ * O cache de resultados do H2 fica desligado, senão a mesma consulta repetida não seria executada.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="FiltroBitmapBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class FiltroBitmapBenchmark {
+
+    private static final Set<StatusTarefa> STATUS = Set.of(StatusTarefa.PENDENTE, StatusTarefa.EM_ANDAMENTO);
+    private static final Set<Prioridade> PRIORIDADES = Set.of(Prioridade.ALTA, Prioridade.URGENTE);
+    private static final String FILTRO =
+            "status IN ('PENDENTE', 'EM_ANDAMENTO') AND prioridade IN ('ALTA', 'URGENTE')";
+
+    @Param({"100000", "1000000"})
+    private int quantidade;
+
+    private Connection conexao;
+    private PreparedStatement pagina;
+    private PreparedStatement contagens;
+    private IndiceFiltroTarefas indice;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = DriverManager.getConnection(
+                "jdbc:h2:mem:filtro" + quantidade + ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS tarefas");
+            statement.execute("CREATE TABLE tarefas (id BIGINT PRIMARY KEY, status VARCHAR(20), prioridade VARCHAR(20))");
+            statement.execute("CREATE INDEX idx_tarefas_status_id ON tarefas (status, id)");
+            statement.execute("CREATE INDEX idx_tarefas_prioridade_id ON tarefas (prioridade, id)");
+        }
+
+        indice = new IndiceFiltroTarefas();
+        Random random = new Random(42);
+        StatusTarefa[] status = StatusTarefa.values();
+        Prioridade[] prioridades = Prioridade.values();
+        List<TarefaResponseDTO> lote = new ArrayList<>();
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO tarefas (id, status, prioridade) VALUES (?, ?, ?)")) {
+            for (long id = 1; id <= quantidade; id++) {
+                TarefaResponseDTO dto = new TarefaResponseDTO();
+                dto.setId(id);
+                dto.setStatus(status[random.nextInt(status.length)]);
+                dto.setPrioridade(prioridades[random.nextInt(prioridades.length)]);
+                insert.setLong(1, id);
+                insert.setString(2, dto.getStatus().name());
+                insert.setString(3, dto.getPrioridade().name());
+                insert.addBatch();
+                lote.add(dto);
+                if (lote.size() == 10_000) {
+                    insert.executeBatch();
+                    indice.indexarLote(lote);
+                    lote.clear();
+                }
+            }
+            insert.executeBatch();
+            indice.indexarLote(lote);
+        }
+
+        pagina = conexao.prepareStatement("SELECT id FROM tarefas WHERE " + FILTRO + " AND id > 0 ORDER BY id LIMIT 51");
+        contagens = conexao.prepareStatement(
+                "SELECT status, prioridade, COUNT(*) FROM tarefas WHERE " + FILTRO + " GROUP BY status, prioridade");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        conexao.close();
+    }
+
+    @Benchmark
+    public void banco(Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = pagina.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+        try (ResultSet resultSet = contagens.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(3));
+            }
+        }
+    }
+
+    @Benchmark
+    public void bitmaps(Blackhole blackhole) {
+        blackhole.consume(indice.filtrar(STATUS, PRIORIDADES, 0, 51));
+    }
+}
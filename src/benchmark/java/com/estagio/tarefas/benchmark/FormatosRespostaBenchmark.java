@@ -0,0 +1,119 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compara JSON, CBOR e Smile (com as configurações do SerializacaoConfig), com e sem gzip, para uma
+ * resposta de 10 mil TarefaResponseDTO: tempo para gerar e para ler o corpo. O tamanho de cada corpo
+ * é impresso no início de cada combinação.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="FormatosRespostaBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class FormatosRespostaBenchmark {
+
+    private static final TypeReference<List<TarefaResponseDTO>> TIPO_LISTA = new TypeReference<>() { };
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String formato;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"10000"})
+    private int tamanho;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TarefaResponseDTO> tarefas;
+    private byte[] corpo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        JsonFactory factory = switch (formato) {
+            case "CBOR" -> new CBORFactory();
+            case "SMILE" -> SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+            default -> new JsonFactory();
+        };
+        var mapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = mapper.writerFor(TIPO_LISTA);
+        reader = mapper.readerFor(TIPO_LISTA);
+
+        BuscaPorTermoBenchmark.GeradorTextos gerador = new BuscaPorTermoBenchmark.GeradorTextos(42);
+        LocalDateTime agora = LocalDateTime.now();
+        tarefas = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            StatusTarefa status = StatusTarefa.values()[i % StatusTarefa.values().length];
+            tarefas.add(new TarefaResponseDTO((long) i + 1, gerador.frase(4), gerador.frase(12), status,
+                    Prioridade.values()[i % Prioridade.values().length], agora.minusMinutes(i), agora,
+                    status == StatusTarefa.CONCLUIDA ? agora : null, 0L));
+        }
+
+        corpo = escrever();
+        System.out.printf("%n# %s%s: %,d bytes%n", formato, gzip ? " + gzip" : "", corpo.length);
+    }
+
+    @Benchmark
+    public byte[] escrever() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(1 << 20);
+        if (gzip) {
+            try (GZIPOutputStream compactado = new GZIPOutputStream(saida, 8192)) {
+                writer.writeValue(compactado, tarefas);
+            }
+        } else {
+            writer.writeValue(saida, tarefas);
+        }
+        return saida.toByteArray();
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> ler() throws IOException {
+        if (gzip) {
+            try (InputStream entrada = new GZIPInputStream(new ByteArrayInputStream(corpo), 8192)) {
+                return reader.readValue(entrada);
+            }
+        }
+        return reader.readValue(corpo);
+    }
+}
@@ -0,0 +1,110 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.Application;
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.service.TarefaService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compara a listagem de uma página de 500 tarefas carregando entidades (caminho anterior) com a projeção
+ * direta em DTO, com e sem a descrição. Para ver a alocação por operação, adicione "-prof gc".
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ListagemProjecaoBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ListagemProjecaoBenchmark {
+
+    private static final int TAREFAS = 20_000;
+    private static final int PAGINA = 500;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private EntityManager entityManager;
+    private TransactionTemplate transacaoLeitura;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:projecao;DB_CLOSE_DELAY=-1",
+                        "--spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        tarefaService = contexto.getBean(TarefaService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                contexto.getBean(EntityManagerFactory.class));
+        transacaoLeitura = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        transacaoLeitura.setReadOnly(true);
+
+        String descricao = "Descrição detalhada da tarefa ".repeat(14);
+        List<TarefaRequestDTO> lote = new ArrayList<>(TarefaService.TAMANHO_MAXIMO_LOTE);
+        for (int i = 0; i < TAREFAS; i++) {
+            lote.add(new TarefaRequestDTO("Tarefa " + i, descricao + i,
+                    StatusTarefa.PENDENTE, Prioridade.values()[i % Prioridade.values().length]));
+            if (lote.size() == TarefaService.TAMANHO_MAXIMO_LOTE) {
+                tarefaService.criarLote(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<TarefaResponseDTO> entidades() {
+        return transacaoLeitura.execute(status -> entityManager
+                .createQuery("SELECT t FROM Tarefa t WHERE t.id > :id ORDER BY t.id ASC", Tarefa.class)
+                .setParameter("id", 0L)
+                .setMaxResults(PAGINA + 1)
+                .getResultList()
+                .stream()
+                .map(TarefaResponseDTO::fromEntity)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public Object projecaoCompleta() {
+        return tarefaService.listarTodas(null, PAGINA, CamposTarefa.COMPLETO);
+    }
+
+    @Benchmark
+    public Object projecaoResumo() {
+        return tarefaService.listarTodas(null, PAGINA, CamposTarefa.RESUMO);
+    }
+}
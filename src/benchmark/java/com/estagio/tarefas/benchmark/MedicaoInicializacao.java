@@ -0,0 +1,144 @@
+package com.estagio.tarefas.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mede o tempo até a aplicação ficar pronta (/actuator/health/readiness com 200), do início do processo, para o
+ * JAR executável comum e para o pacote do profile Maven inicio-rapido (AOT, CDS e inicialização preguiçosa).
+ * Falha se a mediana do pacote otimizado passar da proporção máxima da mediana do JAR comum, medida na mesma
+ * máquina, ou do limite absoluto em ms (0 desliga). Usa só a JDK, para rodar como arquivo-fonte.
+ * Execução: mvn -Pinicio-rapido verify (-Dinicio-rapido.proporcao-maxima=... e -Dinicio-rapido.limite-ms=...)
+ */
+public class MedicaoInicializacao {
+
+    private static final Pattern PORTA = Pattern.compile("Tomcat started on port (\\d+)");
+    private static final Duration TEMPO_MAXIMO = Duration.ofSeconds(60);
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 7) {
+            System.err.println("Uso: MedicaoInicializacao <jar executável> <diretório inicio-rapido> <jar otimizado> "
+                    + "<perfis> <repetições> <proporção máxima> <limite-ms>");
+            System.exit(1);
+        }
+        Path diretorio = Path.of(args[1]);
+        String perfis = args[3];
+        int repeticoes = Integer.parseInt(args[4]);
+        double proporcaoMaxima = Double.parseDouble(args[5]);
+        long limite = Long.parseLong(args[6]);
+        Path dados = Files.createDirectories(diretorio.resolve("medicao"));
+
+        List<String> padrao = List.of("java", "-jar", Path.of(args[0]).toString(),
+                "--spring.profiles.active=prod");
+        List<String> otimizado = List.of("java",
+                "-XX:SharedArchiveFile=" + diretorio.resolve("app.jsa"),
+                "-Xlog:cds=error",
+                "-Dspring.aot.enabled=true",
+                "-jar", diretorio.resolve(args[2]).toString(),
+                "--spring.profiles.active=" + perfis);
+
+        // A primeira execução cria o banco e aplica as migrações; fica fora da medição.
+        System.out.printf("aquecimento: %d ms%n", tempoAtePronta(padrao, dados));
+        long medianaPadrao = medir("padrão", padrao, dados, repeticoes);
+        long medianaOtimizado = medir("inicio-rapido", otimizado, dados, repeticoes);
+        double proporcao = (double) medianaOtimizado / medianaPadrao;
+        System.out.printf("Mediana: padrão %d ms, inicio-rapido %d ms (%.0f%% do padrão)%n",
+                medianaPadrao, medianaOtimizado, proporcao * 100);
+        if (proporcao > proporcaoMaxima) {
+            System.err.printf("Inicialização otimizada acima de %.0f%% do padrão%n", proporcaoMaxima * 100);
+            System.exit(1);
+        }
+        if (limite > 0 && medianaOtimizado > limite) {
+            System.err.printf("Inicialização otimizada acima do limite: %d ms > %d ms%n", medianaOtimizado, limite);
+            System.exit(1);
+        }
+    }
+
+    private static long medir(String nome, List<String> comando, Path dados, int repeticoes) throws Exception {
+        List<Long> tempos = new ArrayList<>();
+        for (int i = 0; i < repeticoes; i++) {
+            long tempo = tempoAtePronta(comando, dados);
+            System.out.printf("%-14s execução %d: %d ms%n", nome, i + 1, tempo);
+            tempos.add(tempo);
+        }
+        Collections.sort(tempos);
+        return tempos.get(tempos.size() / 2);
+    }
+
+    private static long tempoAtePronta(List<String> comando, Path dados) throws Exception {
+        List<String> completo = new ArrayList<>(comando);
+        completo.add("--server.port=0");
+        completo.add("--tarefas.dados=" + dados.toAbsolutePath());
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(completo).redirectErrorStream(true).start();
+        try {
+            CompletableFuture<Integer> porta = new CompletableFuture<>();
+            Thread leitor = new Thread(() -> lerSaida(processo, porta), "saida-aplicacao");
+            leitor.setDaemon(true);
+            leitor.start();
+
+            URI readiness = URI.create("http://localhost:" + porta.get(TEMPO_MAXIMO.toSeconds(), TimeUnit.SECONDS)
+                    + "/actuator/health/readiness");
+            long limite = inicio + TEMPO_MAXIMO.toNanos();
+            while (System.nanoTime() < limite) {
+                if (pronta(readiness)) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("A aplicação não ficou pronta em " + TEMPO_MAXIMO.toSeconds() + " s");
+        } finally {
+            processo.destroy();
+            if (!processo.waitFor(30, TimeUnit.SECONDS)) {
+                processo.destroyForcibly();
+            }
+        }
+    }
+
+    /** Consome toda a saída (para o processo não travar com o buffer cheio) e informa a porta do Tomcat. */
+    private static void lerSaida(Process processo, CompletableFuture<Integer> porta) {
+        try (BufferedReader saida = new BufferedReader(
+                new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = saida.readLine()) != null) {
+                Matcher matcher = PORTA.matcher(linha);
+                if (!porta.isDone() && matcher.find()) {
+                    porta.complete(Integer.valueOf(matcher.group(1)));
+                }
+            }
+        } catch (IOException e) {
+            porta.completeExceptionally(e);
+        }
+        porta.completeExceptionally(new IllegalStateException("A aplicação terminou antes de abrir a porta HTTP"));
+    }
+
+    private static boolean pronta(URI readiness) throws InterruptedException {
+        try {
+            HttpResponse<Void> resposta = HTTP.send(HttpRequest.newBuilder(readiness).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return resposta.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.snapshot.SnapshotTarefas;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memória ocupada por N tarefas ativas como entidades {@code Tarefa}, como {@code TarefaResponseDTO} e no
+ * {@link SnapshotTarefas} colunar (heap e buffer direto), medida pelo heap usado após GC. Também mede o tempo
+ * de uma página da listagem por status servida pelo snapshot.
+ * Execução: mvn -Pbenchmark test-compile exec:exec
+ *   -Dbenchmark.main=com.estagio.tarefas.benchmark.MemoriaSnapshotBenchmark -Djmh.args="[quantidade]"
+ */
+public class MemoriaSnapshotBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 8, 0);
+
+    public static void main(String[] args) {
+        int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        System.out.printf("quantidade=%d%n", quantidade);
+        System.out.printf("%-20s %12s %12s %12s%n", "representacao", "heap MB", "direto MB", "bytes/tarefa");
+
+        long antes = heapUsado();
+        List<Tarefa> entidades = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            entidades.add(entidade(i));
+        }
+        imprimir("entidades", heapUsado() - antes, 0, quantidade);
+        Reference.reachabilityFence(entidades);
+        entidades = null;
+
+        antes = heapUsado();
+        List<TarefaResponseDTO> dtos = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            dtos.add(TarefaResponseDTO.fromEntity(entidade(i)));
+        }
+        imprimir("dtos", heapUsado() - antes, 0, quantidade);
+
+        antes = heapUsado();
+        long diretoAntes = diretoUsado();
+        SnapshotTarefas snapshot = new SnapshotTarefas(new SimpleMeterRegistry());
+        for (int inicio = 0; inicio < quantidade; inicio += 1000) {
+            snapshot.atualizar(dtos.subList(inicio, Math.min(inicio + 1000, quantidade)));
+        }
+        snapshot.concluirCarga();
+        imprimir("snapshot", heapUsado() - antes, diretoUsado() - diretoAntes, quantidade);
+        dtos.clear();
+
+        int paginas = 20_000;
+        for (int i = 0; i < paginas; i++) {
+            snapshot.buscarPorStatus(StatusTarefa.CONCLUIDA, null, 50, CamposTarefa.COMPLETO);
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < paginas; i++) {
+            snapshot.buscarPorStatus(StatusTarefa.values()[i % 4], null, 50, CamposTarefa.COMPLETO);
+        }
+        System.out.printf("pagina de 50 por status no snapshot: %.1f us%n",
+                (System.nanoTime() - inicio) / 1000.0 / paginas);
+    }
+
+    private static Tarefa entidade(int i) {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setId((long) i + 1);
+        tarefa.setTitulo("Tarefa " + i);
+        tarefa.setDescricao("Descrição da tarefa " + i + " gerada para o benchmark de memória");
+        tarefa.setStatus(StatusTarefa.values()[i % StatusTarefa.values().length]);
+        tarefa.setPrioridade(Prioridade.values()[i % Prioridade.values().length]);
+        tarefa.setPrioridadeRank(tarefa.getPrioridade().getRank());
+        tarefa.setDataCriacao(BASE.plusSeconds(i));
+        tarefa.setDataAtualizacao(BASE.plusSeconds(i + 60L));
+        if (tarefa.getStatus() == StatusTarefa.CONCLUIDA) {
+            tarefa.setDataConclusao(BASE.plusSeconds(i + 60L));
+        }
+        tarefa.setVersao(1L);
+        return tarefa;
+    }
+
+    private static void imprimir(String representacao, long heap, long direto, int quantidade) {
+        System.out.printf("%-20s %12.1f %12.1f %12.1f%n", representacao, heap / 1048576.0, direto / 1048576.0,
+                (double) (heap + direto) / quantidade);
+    }
+
+    private static long heapUsado() {
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long diretoUsado() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
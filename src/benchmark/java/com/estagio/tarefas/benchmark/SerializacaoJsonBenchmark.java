@@ -0,0 +1,77 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização Jackson de listas de TarefaResponseDTO, gerando o array completo em memória
+ * (como nas respostas paginadas) e escrevendo direto em um OutputStream (como na exportação).
+ * O ObjectMapper é configurado como o do Spring Boot (datas ISO-8601).
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="SerializacaoJsonBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SerializacaoJsonBenchmark {
+
+    @Param({"500", "10000", "100000"})
+    private int tamanho;
+
+    private ObjectWriter writer;
+    private List<TarefaResponseDTO> tarefas;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<List<TarefaResponseDTO>>() { });
+
+        BuscaPorTermoBenchmark.GeradorTextos gerador = new BuscaPorTermoBenchmark.GeradorTextos(42);
+        LocalDateTime agora = LocalDateTime.now();
+        tarefas = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            StatusTarefa status = StatusTarefa.values()[i % StatusTarefa.values().length];
+            tarefas.add(new TarefaResponseDTO((long) i + 1, gerador.frase(4), gerador.frase(12), status,
+                    Prioridade.values()[i % Prioridade.values().length], agora.minusMinutes(i), agora,
+                    status == StatusTarefa.CONCLUIDA ? agora : null, 0L));
+        }
+    }
+
+    @Benchmark
+    public byte[] bytes() throws IOException {
+        return writer.writeValueAsBytes(tarefas);
+    }
+
+    @Benchmark
+    public void stream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), tarefas);
+    }
+}
@@ -0,0 +1,128 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.Application;
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.search.IndiceBuscaListener;
+import com.estagio.tarefas.service.TarefaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede os caminhos principais do TarefaService (listagens, busca por termo e criação) sobre um H2 em memória
+ * com o esquema das migrações e a quantidade de tarefas do parâmetro. A carga inicial é feita por JDBC em lote
+ * e o índice de busca é reconstruído antes das medições.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TarefaServiceBenchmark -p quantidade=10000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TarefaServiceBenchmark {
+
+    private static final int LOTE_CARGA = 5_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext contexto;
+    private TarefaService tarefaService;
+    private TarefaRequestDTO nova;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:servico" + quantidade + ";DB_CLOSE_DELAY=-1",
+                        "--spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        tarefaService = contexto.getBean(TarefaService.class);
+        carregar(contexto.getBean(JdbcTemplate.class));
+        contexto.getBean(IndiceBuscaListener.class).reindexar();
+        nova = new TarefaRequestDTO("Revisar relatório", "Conferir os números do trimestre",
+                StatusTarefa.PENDENTE, Prioridade.ALTA);
+    }
+
+    private void carregar(JdbcTemplate jdbc) {
+        BuscaPorTermoBenchmark.GeradorTextos gerador = new BuscaPorTermoBenchmark.GeradorTextos(42);
+        LocalDateTime inicio = LocalDateTime.now().minusDays(365);
+        List<Object[]> lote = new ArrayList<>(LOTE_CARGA);
+        for (long id = 1; id <= quantidade; id++) {
+            StatusTarefa status = StatusTarefa.values()[(int) (id % StatusTarefa.values().length)];
+            Prioridade prioridade = Prioridade.values()[(int) (id % Prioridade.values().length)];
+            Timestamp criacao = Timestamp.valueOf(inicio.plusSeconds(id * 30));
+            lote.add(new Object[]{id, gerador.frase(4), gerador.frase(12), status.name(), prioridade.name(),
+                    prioridade.getRank(), criacao, criacao,
+                    status == StatusTarefa.CONCLUIDA ? criacao : null});
+            if (lote.size() == LOTE_CARGA) {
+                inserir(jdbc, lote);
+            }
+        }
+        inserir(jdbc, lote);
+        jdbc.execute("ALTER SEQUENCE tarefas_seq RESTART WITH " + (quantidade + 50));
+    }
+
+    private static void inserir(JdbcTemplate jdbc, List<Object[]> lote) {
+        jdbc.batchUpdate("INSERT INTO tarefas (id, titulo, descricao, status, prioridade, prioridade_rank, " +
+                "data_criacao, data_atualizacao, data_conclusao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", lote);
+        lote.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Object listarTodas() {
+        return tarefaService.listarTodas(null, TarefaService.TAMANHO_PAGINA_PADRAO, CamposTarefa.COMPLETO);
+    }
+
+    @Benchmark
+    public Object buscarPorStatus() {
+        return tarefaService.buscarPorStatus(StatusTarefa.EM_ANDAMENTO, null, TarefaService.TAMANHO_PAGINA_PADRAO,
+                CamposTarefa.COMPLETO);
+    }
+
+    @Benchmark
+    public Object listarOrdenadas() {
+        return tarefaService.listarOrdenadas(null, TarefaService.TAMANHO_PAGINA_PADRAO, CamposTarefa.COMPLETO);
+    }
+
+    @Benchmark
+    public Object buscarPorTermo() {
+        return tarefaService.buscarPorTermo("configura", null, TarefaService.TAMANHO_PAGINA_PADRAO,
+                CamposTarefa.COMPLETO);
+    }
+
+    @Benchmark
+    public Object criar() {
+        return tarefaService.criar(nova);
+    }
+}
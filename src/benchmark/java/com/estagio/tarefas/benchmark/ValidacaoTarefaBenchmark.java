@@ -0,0 +1,97 @@
+package com.estagio.tarefas.benchmark;
+
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.service.TarefaService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as validações aplicadas a cada item na criação: as regras de TarefaService.validarTarefa
+ * (privado, chamado via MethodHandle), com a entrada válida e com uma inválida que lança
+ * BusinessException, e a Bean Validation das anotações de TarefaRequestDTO.
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ValidacaoTarefaBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidacaoTarefaBenchmark {
+
+    private static final MethodHandle VALIDAR_TAREFA;
+
+    static {
+        try {
+            VALIDAR_TAREFA = MethodHandles.privateLookupIn(TarefaService.class, MethodHandles.lookup())
+                    .findVirtual(TarefaService.class, "validarTarefa",
+                            MethodType.methodType(void.class, TarefaRequestDTO.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TarefaService tarefaService;
+    private TarefaRequestDTO valida;
+    private TarefaRequestDTO semPrioridade;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        tarefaService = new TarefaService(null, null, null, null, null, null, null, validator, null, null);
+        valida = new TarefaRequestDTO("Revisar relatório", "Conferir os números do trimestre",
+                StatusTarefa.PENDENTE, Prioridade.ALTA);
+        semPrioridade = new TarefaRequestDTO("Revisar relatório", null, StatusTarefa.PENDENTE, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void validarTarefa() throws Throwable {
+        VALIDAR_TAREFA.invokeExact(tarefaService, valida);
+    }
+
+    @Benchmark
+    public String validarTarefaInvalida() throws Throwable {
+        try {
+            VALIDAR_TAREFA.invokeExact(tarefaService, semPrioridade);
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TarefaRequestDTO>> beanValidation() {
+        return validator.validate(valida);
+    }
+}
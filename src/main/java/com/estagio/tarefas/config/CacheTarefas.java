@@ -0,0 +1,57 @@
+package com.estagio.tarefas.config;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Cache de tarefas que só aceita uma tarefa com versão maior ou igual à que já está guardada, e que guarda uma
+ * marca para as tarefas removidas ou arquivadas. Assim, uma leitura do banco feita antes de uma alteração e
+ * gravada pelo {@code @Cacheable} depois dela não sobrescreve a versão nova nem traz de volta uma tarefa
+ * removida. A marca expira com a entrada e é tratada como ausente nas leituras.
+ */
+public class CacheTarefas extends CaffeineCache {
+
+    private static final Object REMOVIDA = new Object();
+
+    public CacheTarefas(String nome, Cache<Object, Object> cache) {
+        super(nome, cache, false);
+    }
+
+    public void marcarRemovida(Object chave) {
+        getNativeCache().put(chave, REMOVIDA);
+    }
+
+    @Override
+    protected Object lookup(Object chave) {
+        Object valor = super.lookup(chave);
+        return valor == REMOVIDA ? null : valor;
+    }
+
+    @Override
+    public void put(Object chave, Object valor) {
+        getNativeCache().asMap().compute(chave, (k, atual) -> maisRecente(atual, valor));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object chave, Object valor) {
+        Object resultado = getNativeCache().asMap().compute(chave,
+                (k, atual) -> atual == null || atual == REMOVIDA ? maisRecente(atual, valor) : atual);
+        return resultado == valor || resultado == REMOVIDA ? null : toValueWrapper(resultado);
+    }
+
+    private static Object maisRecente(Object atual, Object novo) {
+        if (atual == REMOVIDA) {
+            return atual;
+        }
+        if (atual instanceof TarefaResponseDTO guardada && novo instanceof TarefaResponseDTO tarefa
+                && versao(guardada) > versao(tarefa)) {
+            return atual;
+        }
+        return novo;
+    }
+
+    private static long versao(TarefaResponseDTO tarefa) {
+        return tarefa.getVersao() == null ? -1 : tarefa.getVersao();
+    }
+}
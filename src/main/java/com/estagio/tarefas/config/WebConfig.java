@@ -0,0 +1,20 @@
+package com.estagio.tarefas.config;
+
+import com.estagio.tarefas.limite.LimiteRequisicoesInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<LimiteRequisicoesInterceptor> limiteRequisicoes;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        limiteRequisicoes.ifAvailable(interceptor -> registry.addInterceptor(interceptor).addPathPatterns("/api/**"));
+    }
+}
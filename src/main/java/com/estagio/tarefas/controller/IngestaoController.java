@@ -0,0 +1,39 @@
+package com.estagio.tarefas.controller;
+
+import com.estagio.tarefas.dto.IngestaoStatusDTO;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.service.IngestaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/tarefas/ingestao")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tarefas.ingestao.habilitada", havingValue = "true")
+@Tag(name = "Ingestão", description = "Criação assíncrona de tarefas")
+public class IngestaoController {
+
+    private final IngestaoService ingestaoService;
+
+    @PostMapping
+    @Operation(summary = "Aceitar tarefa para gravação assíncrona")
+    public ResponseEntity<IngestaoStatusDTO> aceitar(@Valid @RequestBody TarefaRequestDTO dto) {
+        IngestaoStatusDTO status = ingestaoService.aceitar(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tarefas/ingestao/" + status.getId()))
+                .body(status);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Consultar a situação de uma tarefa aceita pela ingestão")
+    public ResponseEntity<IngestaoStatusDTO> consultar(@PathVariable Long id) {
+        return ResponseEntity.ok(ingestaoService.consultar(id));
+    }
+}
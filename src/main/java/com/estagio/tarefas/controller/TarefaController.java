@@ -1,19 +1,42 @@
 package com.estagio.tarefas.controller;
 
+import com.estagio.tarefas.dto.AlteracoesDTO;
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.EstatisticasDTO;
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.FiltroResponseDTO;
+import com.estagio.tarefas.dto.FormatoExportacao;
+import com.estagio.tarefas.dto.LoteResultadoDTO;
+import com.estagio.tarefas.dto.LoteStatusRequestDTO;
+import com.estagio.tarefas.dto.PaginaResponseDTO;
 import com.estagio.tarefas.dto.TarefaRequestDTO;
 import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.exception.PreconditionFailedException;
+import com.estagio.tarefas.limite.LimiteRequisicoes;
 import com.estagio.tarefas.model.Prioridade;
 import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.service.EstatisticasService;
+import com.estagio.tarefas.service.EventosService;
+import com.estagio.tarefas.service.ExportacaoService;
+import com.estagio.tarefas.service.FilaTarefasService;
 import com.estagio.tarefas.service.TarefaService;
+import com.estagio.tarefas.snapshot.SnapshotTarefas;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/tarefas")
@@ -22,49 +45,151 @@ import java.util.List;
 public class TarefaController {
 
     private final TarefaService tarefaService;
+    private final ExportacaoService exportacaoService;
+    private final EstatisticasService estatisticasService;
+    private final EventosService eventosService;
+    private final FilaTarefasService filaTarefasService;
+    private final ObjectProvider<SnapshotTarefas> snapshotTarefas;
 
     @GetMapping
     @Operation(summary = "Listar todas as tarefas")
-    public ResponseEntity<List<TarefaResponseDTO>> listarTodas() {
-        List<TarefaResponseDTO> tarefas = tarefaService.listarTodas();
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<PaginaResponseDTO<TarefaResponseDTO>> listarTodas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos,
+            @RequestParam(defaultValue = "false") boolean incluirArquivadas) {
+        PaginaResponseDTO<TarefaResponseDTO> tarefas = tarefaService.listarTodas(
+                cursor, tamanho, campos, incluirArquivadas);
         return ResponseEntity.ok(tarefas);
     }
 
     @GetMapping("/ordenadas")
     @Operation(summary = "Listar tarefas ordenadas por prioridade e data")
-    public ResponseEntity<List<TarefaResponseDTO>> listarOrdenadas() {
-        List<TarefaResponseDTO> tarefas = tarefaService.listarOrdenadas();
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<PaginaResponseDTO<TarefaResponseDTO>> listarOrdenadas(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos) {
+        SnapshotTarefas snapshot = snapshotPronto(false);
+        PaginaResponseDTO<TarefaResponseDTO> tarefas = snapshot != null
+                ? snapshot.listarOrdenadas(cursor, tamanho, campos)
+                : tarefaService.listarOrdenadas(cursor, tamanho, campos);
         return ResponseEntity.ok(tarefas);
     }
 
+    @GetMapping("/alteracoes")
+    @Operation(summary = "Listar tarefas alteradas e removidas desde o cursor")
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<AlteracoesDTO> listarAlteracoes(
+            @RequestParam(required = false) String desde,
+            @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(tarefaService.listarAlteracoes(desde, tamanho));
+    }
+
+    @GetMapping("/estatisticas")
+    @Operation(summary = "Obter estatísticas das tarefas")
+    public ResponseEntity<EstatisticasDTO> obterEstatisticas() {
+        return ResponseEntity.ok(estatisticasService.obter());
+    }
+
+    @GetMapping(path = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Acompanhar alterações das tarefas por Server-Sent Events")
+    public SseEmitter eventos(
+            @RequestHeader(value = "Last-Event-ID", required = false) String ultimoId,
+            @RequestParam(required = false) Set<StatusTarefa> status,
+            @RequestParam(required = false) Set<Prioridade> prioridade) {
+        return eventosService.assinar(ultimoId, status, prioridade);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar tarefas em NDJSON ou CSV")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            FiltroExportacaoDTO filtro,
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato) {
+        exportacaoService.validarFiltro(filtro);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportar(filtro, formato, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tarefas." + formato.getExtensao() + "\"")
+                .body(corpo);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar tarefa por ID")
-    public ResponseEntity<TarefaResponseDTO> buscarPorId(@PathVariable Long id) {
-        TarefaResponseDTO tarefa = tarefaService.buscarPorId(id);
-        return ResponseEntity.ok(tarefa);
+    public ResponseEntity<TarefaResponseDTO> buscarPorId(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean incluirArquivadas,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Long versao = tarefaService.buscarVersao(id, incluirArquivadas);
+            if (correspondeVersao(ifNoneMatch, versao)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag(versao)).build();
+            }
+        }
+        TarefaResponseDTO tarefa = incluirArquivadas
+                ? tarefaService.buscarPorIdIncluindoArquivadas(id)
+                : tarefaService.buscarPorId(id);
+        return ResponseEntity.ok().eTag(etag(tarefa.getVersao())).body(tarefa);
     }
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Buscar tarefas por status")
-    public ResponseEntity<List<TarefaResponseDTO>> buscarPorStatus(@PathVariable StatusTarefa status) {
-        List<TarefaResponseDTO> tarefas = tarefaService.buscarPorStatus(status);
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<PaginaResponseDTO<TarefaResponseDTO>> buscarPorStatus(
+            @PathVariable StatusTarefa status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos,
+            @RequestParam(defaultValue = "false") boolean incluirArquivadas) {
+        SnapshotTarefas snapshot = snapshotPronto(incluirArquivadas);
+        PaginaResponseDTO<TarefaResponseDTO> tarefas = snapshot != null
+                ? snapshot.buscarPorStatus(status, cursor, tamanho, campos)
+                : tarefaService.buscarPorStatus(status, cursor, tamanho, campos, incluirArquivadas);
         return ResponseEntity.ok(tarefas);
     }
 
     @GetMapping("/prioridade/{prioridade}")
     @Operation(summary = "Buscar tarefas por prioridade")
-    public ResponseEntity<List<TarefaResponseDTO>> buscarPorPrioridade(@PathVariable Prioridade prioridade) {
-        List<TarefaResponseDTO> tarefas = tarefaService.buscarPorPrioridade(prioridade);
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<PaginaResponseDTO<TarefaResponseDTO>> buscarPorPrioridade(
+            @PathVariable Prioridade prioridade,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos,
+            @RequestParam(defaultValue = "false") boolean incluirArquivadas) {
+        SnapshotTarefas snapshot = snapshotPronto(incluirArquivadas);
+        PaginaResponseDTO<TarefaResponseDTO> tarefas = snapshot != null
+                ? snapshot.buscarPorPrioridade(prioridade, cursor, tamanho, campos)
+                : tarefaService.buscarPorPrioridade(prioridade, cursor, tamanho, campos, incluirArquivadas);
         return ResponseEntity.ok(tarefas);
     }
 
     @GetMapping("/buscar")
     @Operation(summary = "Buscar tarefas por termo")
-    public ResponseEntity<List<TarefaResponseDTO>> buscarPorTermo(@RequestParam String termo) {
-        List<TarefaResponseDTO> tarefas = tarefaService.buscarPorTermo(termo);
+    @LimiteRequisicoes(porSegundo = 5, rajada = 10)
+    public ResponseEntity<PaginaResponseDTO<TarefaResponseDTO>> buscarPorTermo(
+            @RequestParam String termo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos) {
+        PaginaResponseDTO<TarefaResponseDTO> tarefas = tarefaService.buscarPorTermo(termo, cursor, tamanho, campos);
         return ResponseEntity.ok(tarefas);
     }
 
+    @GetMapping("/filtro")
+    @Operation(summary = "Filtrar tarefas por vários status e prioridades, com contagens")
+    @LimiteRequisicoes(porSegundo = 20, rajada = 40)
+    public ResponseEntity<FiltroResponseDTO> filtrar(
+            @RequestParam(required = false) Set<StatusTarefa> status,
+            @RequestParam(required = false) Set<Prioridade> prioridade,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "COMPLETO") CamposTarefa campos) {
+        return ResponseEntity.ok(tarefaService.filtrar(status, prioridade, cursor, tamanho, campos));
+    }
+
     @PostMapping
     @Operation(summary = "Criar nova tarefa")
     public ResponseEntity<TarefaResponseDTO> criar(@Valid @RequestBody TarefaRequestDTO dto) {
@@ -72,22 +197,53 @@ public class TarefaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(tarefa);
     }
 
+    @PostMapping("/proxima")
+    @Operation(summary = "Iniciar a próxima tarefa pendente, por prioridade e antiguidade")
+    public ResponseEntity<TarefaResponseDTO> despacharProxima() {
+        return filaTarefasService.despacharProxima()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/lote")
+    @Operation(summary = "Criar tarefas em lote")
+    public ResponseEntity<LoteResultadoDTO> criarLote(@RequestBody List<TarefaRequestDTO> dtos) {
+        LoteResultadoDTO resultado = tarefaService.criarLote(dtos);
+        return ResponseEntity.ok(resultado);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar tarefa")
     public ResponseEntity<TarefaResponseDTO> atualizar(
             @PathVariable Long id,
-            @Valid @RequestBody TarefaRequestDTO dto) {
-        TarefaResponseDTO tarefa = tarefaService.atualizar(id, dto);
-        return ResponseEntity.ok(tarefa);
+            @Valid @RequestBody TarefaRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TarefaResponseDTO tarefa = tarefaService.atualizar(id, dto, versoesEsperadas(ifMatch));
+        return ResponseEntity.ok().eTag(etag(tarefa.getVersao())).body(tarefa);
     }
 
     @PatchMapping("/{id}/status")
     @Operation(summary = "Atualizar status da tarefa")
     public ResponseEntity<TarefaResponseDTO> atualizarStatus(
             @PathVariable Long id,
-            @RequestParam StatusTarefa status) {
-        TarefaResponseDTO tarefa = tarefaService.atualizarStatus(id, status);
-        return ResponseEntity.ok(tarefa);
+            @RequestParam StatusTarefa status,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TarefaResponseDTO tarefa = tarefaService.atualizarStatus(id, status, versoesEsperadas(ifMatch));
+        return ResponseEntity.ok().eTag(etag(tarefa.getVersao())).body(tarefa);
+    }
+
+    @PatchMapping("/lote/status")
+    @Operation(summary = "Atualizar status de tarefas em lote")
+    public ResponseEntity<LoteResultadoDTO> atualizarStatusLote(@Valid @RequestBody LoteStatusRequestDTO dto) {
+        LoteResultadoDTO resultado = tarefaService.atualizarStatusLote(dto.getIds(), dto.getStatus());
+        return ResponseEntity.ok(resultado);
+    }
+
+    @DeleteMapping("/lote")
+    @Operation(summary = "Deletar tarefas em lote")
+    public ResponseEntity<LoteResultadoDTO> deletarLote(@RequestBody List<Long> ids) {
+        LoteResultadoDTO resultado = tarefaService.deletarLote(ids);
+        return ResponseEntity.ok(resultado);
     }
 
     @DeleteMapping("/{id}")
@@ -96,4 +252,58 @@ public class TarefaController {
         tarefaService.deletar(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Snapshot de leitura, quando habilitado e já carregado. As listagens servidas por ele não abrem transação
+     * nem consultam o banco; o arquivo só existe no banco.
+     */
+    private SnapshotTarefas snapshotPronto(boolean incluirArquivadas) {
+        SnapshotTarefas snapshot = snapshotTarefas.getIfAvailable();
+        return snapshot != null && snapshot.pronto() && !incluirArquivadas ? snapshot : null;
+    }
+
+    private static String etag(Long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    private static boolean correspondeVersao(String cabecalho, Long versao) {
+        for (String tag : cabecalho.split(",")) {
+            String valor = tag.trim();
+            if (valor.equals("*") || removerMarcadoresEtag(valor).equals(String.valueOf(versao))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versões aceitas pelo If-Match: uma por tag da lista. Nulo quando o cabeçalho falta ou contém {@code *}, que
+     * só exige que a tarefa exista; tags que não são versões não correspondem a nenhuma.
+     */
+    private static Set<Long> versoesEsperadas(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        Set<Long> versoes = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String valor = tag.trim();
+            if (valor.equals("*")) {
+                return null;
+            }
+            try {
+                versoes.add(Long.valueOf(removerMarcadoresEtag(valor)));
+            } catch (NumberFormatException e) {
+                // ETag que não veio desta API: não corresponde a nenhuma versão.
+            }
+        }
+        return versoes;
+    }
+
+    private static String removerMarcadoresEtag(String tag) {
+        String valor = tag.startsWith("W/") ? tag.substring(2) : tag;
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        return valor;
+    }
 }
@@ -0,0 +1,21 @@
+package com.estagio.tarefas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlteracoesDTO {
+
+    private List<TarefaResponseDTO> alteradas;
+    private List<Long> removidas;
+    private String nextCursor;
+    private boolean temMais;
+
+    /** O cursor é anterior aos registros de remoção mantidos: descarte a cópia local e recomece sem cursor. */
+    private boolean ressincronizar;
+}
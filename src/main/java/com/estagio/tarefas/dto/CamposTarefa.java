@@ -0,0 +1,6 @@
+package com.estagio.tarefas.dto;
+
+public enum CamposTarefa {
+    COMPLETO,
+    RESUMO
+}
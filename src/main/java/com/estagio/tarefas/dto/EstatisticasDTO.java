@@ -0,0 +1,24 @@
+package com.estagio.tarefas.dto;
+
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstatisticasDTO {
+
+    private long total;
+    private Map<StatusTarefa, Long> porStatus;
+    private Map<Prioridade, Long> porPrioridade;
+    private Map<StatusTarefa, Map<Prioridade, Long>> porStatusEPrioridade;
+    private long concluidasHoje;
+    private Double tempoMedioConclusaoSegundos;
+    private LocalDateTime ultimaReconciliacao;
+}
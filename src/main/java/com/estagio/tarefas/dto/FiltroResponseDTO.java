@@ -0,0 +1,23 @@
+package com.estagio.tarefas.dto;
+
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FiltroResponseDTO {
+
+    private List<TarefaResponseDTO> itens;
+    private int tamanho;
+    private String nextCursor;
+    private long total;
+    private Map<StatusTarefa, Long> porStatus;
+    private Map<Prioridade, Long> porPrioridade;
+}
@@ -0,0 +1,17 @@
+package com.estagio.tarefas.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestaoStatusDTO {
+
+    private Long id;
+    private SituacaoIngestao situacao;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String erro;
+}
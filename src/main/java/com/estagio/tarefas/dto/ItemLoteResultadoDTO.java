@@ -0,0 +1,24 @@
+package com.estagio.tarefas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemLoteResultadoDTO {
+
+    private int indice;
+    private Long id;
+    private boolean sucesso;
+    private String erro;
+
+    public static ItemLoteResultadoDTO sucesso(int indice, Long id) {
+        return new ItemLoteResultadoDTO(indice, id, true, null);
+    }
+
+    public static ItemLoteResultadoDTO falha(int indice, Long id, String erro) {
+        return new ItemLoteResultadoDTO(indice, id, false, erro);
+    }
+}
@@ -0,0 +1,25 @@
+package com.estagio.tarefas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteResultadoDTO {
+
+    private int total;
+    private int sucessos;
+    private int falhas;
+    private List<ItemLoteResultadoDTO> itens;
+
+    public static LoteResultadoDTO de(List<ItemLoteResultadoDTO> itens) {
+        itens.sort(Comparator.comparingInt(ItemLoteResultadoDTO::getIndice));
+        int sucessos = (int) itens.stream().filter(ItemLoteResultadoDTO::isSucesso).count();
+        return new LoteResultadoDTO(itens.size(), sucessos, itens.size() - sucessos, itens);
+    }
+}
@@ -0,0 +1,22 @@
+package com.estagio.tarefas.dto;
+
+import com.estagio.tarefas.model.StatusTarefa;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteStatusRequestDTO {
+
+    @NotEmpty(message = "A lista de IDs é obrigatória")
+    private List<Long> ids;
+
+    @NotNull(message = "O status é obrigatório")
+    private StatusTarefa status;
+}
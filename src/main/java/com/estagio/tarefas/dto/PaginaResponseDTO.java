@@ -0,0 +1,17 @@
+package com.estagio.tarefas.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaResponseDTO<T> {
+
+    private List<T> itens;
+    private int tamanho;
+    private String nextCursor;
+}
@@ -0,0 +1,7 @@
+package com.estagio.tarefas.dto;
+
+public enum SituacaoIngestao {
+    PENDENTE,
+    GRAVADA,
+    FALHOU
+}
@@ -3,6 +3,7 @@ package com.estagio.tarefas.dto;
 import com.estagio.tarefas.model.Prioridade;
 import com.estagio.tarefas.model.StatusTarefa;
 import com.estagio.tarefas.model.Tarefa;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,12 +17,14 @@ public class TarefaResponseDTO {
 
     private Long id;
     private String titulo;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String descricao;
     private StatusTarefa status;
     private Prioridade prioridade;
     private LocalDateTime dataCriacao;
     private LocalDateTime dataAtualizacao;
     private LocalDateTime dataConclusao;
+    private Long versao;
 
     public static TarefaResponseDTO fromEntity(Tarefa tarefa) {
         return new TarefaResponseDTO(
@@ -32,7 +35,8 @@ public class TarefaResponseDTO {
             tarefa.getPrioridade(),
             tarefa.getDataCriacao(),
             tarefa.getDataAtualizacao(),
-            tarefa.getDataConclusao()
+            tarefa.getDataConclusao(),
+            tarefa.getVersao()
         );
     }
 }
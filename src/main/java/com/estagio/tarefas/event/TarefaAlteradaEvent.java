@@ -0,0 +1,25 @@
+package com.estagio.tarefas.event;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TarefaAlteradaEvent {
+
+    public enum Tipo {
+        CRIADA,
+        ATUALIZADA,
+        REMOVIDA,
+        ARQUIVADA
+    }
+
+    private final Tipo tipo;
+    private final TarefaResponseDTO tarefa;
+    private final TarefaResponseDTO anterior;
+
+    public TarefaAlteradaEvent(Tipo tipo, TarefaResponseDTO tarefa) {
+        this(tipo, tarefa, null);
+    }
+}
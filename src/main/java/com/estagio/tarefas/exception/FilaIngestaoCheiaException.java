@@ -0,0 +1,7 @@
+package com.estagio.tarefas.exception;
+
+public class FilaIngestaoCheiaException extends RuntimeException {
+    public FilaIngestaoCheiaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.estagio.tarefas.exception;
+
+import lombok.Getter;
+
+@Getter
+public class LimiteRequisicoesException extends RuntimeException {
+
+    private final long segundosEspera;
+
+    public LimiteRequisicoesException(String message, long segundosEspera) {
+        super(message);
+        this.segundosEspera = segundosEspera;
+    }
+}
@@ -0,0 +1,7 @@
+package com.estagio.tarefas.exception;
+
+public class SobrecargaException extends RuntimeException {
+    public SobrecargaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.estagio.tarefas.limite;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens guardado como um único instante: o momento em que o balde estará cheio de novo. Consumir
+ * um token adianta esse instante em um intervalo de reposição, com compare-and-set, sem trava e sem thread
+ * de reposição.
+ */
+final class BaldeTokens {
+
+    private final long intervaloNanos;
+    private final long capacidadeNanos;
+    private final AtomicLong cheioEm;
+
+    BaldeTokens(double porSegundo, int rajada, long agora) {
+        this.intervaloNanos = (long) (1_000_000_000L / porSegundo);
+        this.capacidadeNanos = intervaloNanos * rajada;
+        this.cheioEm = new AtomicLong(agora);
+    }
+
+    /** Consome um token e devolve 0, ou devolve quantos nanossegundos faltam para haver um token. */
+    long consumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            long proximo = Math.max(atual, agora) + intervaloNanos;
+            long espera = proximo - agora - capacidadeNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (cheioEm.compareAndSet(atual, proximo)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.estagio.tarefas.limite;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência (AIMD). Cada requisição acima da latência alvo
+ * reduz o limite em 10%, no máximo uma vez por período da latência alvo. Cada requisição abaixo do alvo,
+ * com o limite pelo menos meio ocupado, soma 1/limite, ou seja, cerca de +1 a cada limite de requisições.
+ */
+@Component
+public class LimitadorConcorrencia {
+
+    private static final double FATOR_REDUCAO = 0.9;
+
+    private final long latenciaAlvo;
+    private final int minimo;
+    private final int maximo;
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final AtomicLong limite;
+    private final AtomicLong ultimaReducao;
+
+    @Autowired
+    public LimitadorConcorrencia(@Value("${tarefas.limite.concorrencia.latencia-alvo:200ms}") Duration latenciaAlvo,
+                                 @Value("${tarefas.limite.concorrencia.inicial:20}") int inicial,
+                                 @Value("${tarefas.limite.concorrencia.minimo:2}") int minimo,
+                                 @Value("${tarefas.limite.concorrencia.maximo:100}") int maximo,
+                                 MeterRegistry meterRegistry) {
+        this(latenciaAlvo, inicial, minimo, maximo);
+        Gauge.builder("tarefas.limite.concorrencia", this, LimitadorConcorrencia::limite)
+                .description("Limite atual de requisições simultâneas nos endpoints de listagem e busca")
+                .register(meterRegistry);
+        Gauge.builder("tarefas.limite.em-andamento", emAndamento, AtomicInteger::get)
+                .description("Requisições em andamento nos endpoints de listagem e busca")
+                .register(meterRegistry);
+    }
+
+    LimitadorConcorrencia(Duration latenciaAlvo, int inicial, int minimo, int maximo) {
+        this.latenciaAlvo = latenciaAlvo.toNanos();
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.limite = new AtomicLong(Double.doubleToLongBits(inicial));
+        this.ultimaReducao = new AtomicLong(System.nanoTime() - this.latenciaAlvo);
+    }
+
+    public boolean adquirir() {
+        int limiteAtual = limite();
+        while (true) {
+            int atual = emAndamento.get();
+            if (atual >= limiteAtual) {
+                return false;
+            }
+            if (emAndamento.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void liberar(long latenciaNanos) {
+        liberar(latenciaNanos, System.nanoTime());
+    }
+
+    void liberar(long latenciaNanos, long agora) {
+        int ocupadas = emAndamento.getAndDecrement();
+        if (latenciaNanos > latenciaAlvo) {
+            long ultima = ultimaReducao.get();
+            if (agora - ultima >= latenciaAlvo && ultimaReducao.compareAndSet(ultima, agora)) {
+                atualizar(valor -> Math.max(minimo, valor * FATOR_REDUCAO));
+            }
+        } else if (ocupadas * 2 >= limite()) {
+            atualizar(valor -> Math.min(maximo, valor + 1 / valor));
+        }
+    }
+
+    int limite() {
+        return (int) Double.longBitsToDouble(limite.get());
+    }
+
+    private void atualizar(DoubleUnaryOperator ajuste) {
+        limite.updateAndGet(bits -> Double.doubleToLongBits(ajuste.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,32 @@
+package com.estagio.tarefas.limite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Um balde de tokens por cliente e endpoint. Baldes sem uso por 10 minutos (portanto cheios) são descartados,
+ * e o total de baldes em memória é limitado.
+ */
+@Component
+public class LimitadorTaxa {
+
+    private final Cache<String, BaldeTokens> baldes;
+
+    public LimitadorTaxa(@Value("${tarefas.limite.clientes:100000}") long maximoBaldes) {
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(maximoBaldes)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /** Devolve 0 se a requisição foi aceita, senão os nanossegundos até o cliente poder tentar de novo. */
+    public long consumir(String chave, LimiteRequisicoes limite) {
+        long agora = System.nanoTime();
+        return baldes.get(chave, c -> new BaldeTokens(limite.porSegundo(), limite.rajada(), agora))
+                .consumir(agora);
+    }
+}
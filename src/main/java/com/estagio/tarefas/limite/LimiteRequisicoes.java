@@ -0,0 +1,23 @@
+package com.estagio.tarefas.limite;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limita a taxa de requisições de cada cliente ao endpoint e o submete ao limite de concorrência
+ * adaptativo compartilhado pelos endpoints anotados.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LimiteRequisicoes {
+
+    /** Requisições por segundo aceitas de cada cliente, em média. */
+    double porSegundo();
+
+    /** Requisições seguidas aceitas de um cliente que estava parado. */
+    int rajada();
+}
@@ -0,0 +1,74 @@
+package com.estagio.tarefas.limite;
+
+import com.estagio.tarefas.exception.LimiteRequisicoesException;
+import com.estagio.tarefas.exception.SobrecargaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica {@link LimiteRequisicoes}: primeiro a taxa do cliente (429), depois o limite de concorrência
+ * (503). O cliente é identificado pelo endereço remoto; no perfil prod o Tomcat já o substitui pelo IP original
+ * do X-Forwarded-For quando a requisição vem de um proxy confiável ({@code server.forward-headers-strategy}).
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tarefas.limite.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimiteRequisicoesInterceptor implements HandlerInterceptor {
+
+    private static final String ATRIBUTO_INICIO = LimiteRequisicoesInterceptor.class.getName() + ".inicio";
+
+    private final LimitadorTaxa limitadorTaxa;
+    private final LimitadorConcorrencia limitadorConcorrencia;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        LimiteRequisicoes limite = handler instanceof HandlerMethod metodo
+                ? metodo.getMethodAnnotation(LimiteRequisicoes.class)
+                : null;
+        if (limite == null) {
+            return true;
+        }
+
+        String endpoint = request.getMethod() + " "
+                + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        long espera = limitadorTaxa.consumir(request.getRemoteAddr() + " " + endpoint, limite);
+        if (espera > 0) {
+            rejeitadas("taxa", endpoint).increment();
+            throw new LimiteRequisicoesException("Limite de requisições excedido para este endpoint",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(espera + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+        if (!limitadorConcorrencia.adquirir()) {
+            rejeitadas("concorrencia", endpoint).increment();
+            throw new SobrecargaException("Servidor sobrecarregado, tente novamente em instantes");
+        }
+        request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ATRIBUTO_INICIO) instanceof Long inicio) {
+            limitadorConcorrencia.liberar(System.nanoTime() - inicio);
+        }
+    }
+
+    private Counter rejeitadas(String motivo, String endpoint) {
+        return Counter.builder("tarefas.limite.rejeitadas")
+                .description("Requisições recusadas pelo limite de taxa ou de concorrência")
+                .tag("motivo", motivo)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
@@ -1,8 +1,18 @@
 package com.estagio.tarefas.model;
 
 public enum Prioridade {
-    BAIXA,
-    MEDIA,
-    ALTA,
-    URGENTE
+    BAIXA(4),
+    MEDIA(3),
+    ALTA(2),
+    URGENTE(1);
+
+    private final int rank;
+
+    Prioridade(int rank) {
+        this.rank = rank;
+    }
+
+    public int getRank() {
+        return rank;
+    }
 }
@@ -8,14 +8,22 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tarefas")
+@Table(name = "tarefas", indexes = {
+        @Index(name = "idx_tarefas_prioridade_rank", columnList = "prioridade_rank, data_criacao, id"),
+        @Index(name = "idx_tarefas_status", columnList = "status, id"),
+        @Index(name = "idx_tarefas_prioridade", columnList = "prioridade, id"),
+        @Index(name = "idx_tarefas_status_prioridade", columnList = "status, prioridade, data_criacao"),
+        @Index(name = "idx_tarefas_data_conclusao", columnList = "data_conclusao"),
+        @Index(name = "idx_tarefas_data_atualizacao", columnList = "data_atualizacao, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Tarefa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", sequenceName = "tarefas_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -25,13 +33,16 @@ public class Tarefa {
     private String descricao;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, length = 20)
     private StatusTarefa status;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, length = 20)
     private Prioridade prioridade;
 
+    @Column(name = "prioridade_rank", nullable = false)
+    private Integer prioridadeRank;
+
     @Column(name = "data_criacao", nullable = false, updatable = false)
     private LocalDateTime dataCriacao;
 
@@ -41,6 +52,10 @@ public class Tarefa {
     @Column(name = "data_conclusao")
     private LocalDateTime dataConclusao;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         dataCriacao = LocalDateTime.now();
@@ -48,6 +63,7 @@ public class Tarefa {
         if (status == null) {
             status = StatusTarefa.PENDENTE;
         }
+        atualizarPrioridadeRank();
     }
 
     @PreUpdate
@@ -56,5 +72,12 @@ public class Tarefa {
         if (status == StatusTarefa.CONCLUIDA && dataConclusao == null) {
             dataConclusao = LocalDateTime.now();
         }
+        atualizarPrioridadeRank();
+    }
+
+    private void atualizarPrioridadeRank() {
+        if (prioridade != null) {
+            prioridadeRank = prioridade.getRank();
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.estagio.tarefas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarefa concluída ou cancelada movida da tabela {@code tarefas} pelo arquivamento. As linhas são gravadas
+ * apenas por SQL nativo e não mudam mais até serem expurgadas.
+ */
+@Entity
+@Immutable
+@Table(name = "tarefas_arquivadas", indexes = {
+        @Index(name = "idx_tarefas_arquivadas_status", columnList = "status, id"),
+        @Index(name = "idx_tarefas_arquivadas_prioridade", columnList = "prioridade, id"),
+        @Index(name = "idx_tarefas_arquivadas_data_arquivamento", columnList = "data_arquivamento, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaArquivada {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String titulo;
+
+    @Column(length = 500)
+    private String descricao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusTarefa status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Prioridade prioridade;
+
+    @Column(name = "prioridade_rank", nullable = false)
+    private Integer prioridadeRank;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+
+    @Column(nullable = false)
+    private Long versao;
+
+    @Column(name = "data_arquivamento", nullable = false)
+    private LocalDateTime dataArquivamento;
+}
@@ -0,0 +1,28 @@
+package com.estagio.tarefas.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma tarefa removida, mantido para que clientes sincronizados por
+ * {@code /api/tarefas/alteracoes} saibam que devem descartá-la.
+ */
+@Entity
+@Table(name = "tarefas_removidas", indexes = {
+        @Index(name = "idx_tarefas_removidas_data_remocao", columnList = "data_remocao, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaRemovida {
+
+    @Id
+    private Long id;
+
+    @Column(name = "data_remocao", nullable = false)
+    private LocalDateTime dataRemocao;
+}
@@ -0,0 +1,57 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.TarefaArquivada;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TarefaArquivadaRepository extends JpaRepository<TarefaArquivada, Long> {
+
+    String SELECT_PROJECAO = "SELECT new com.estagio.tarefas.dto.TarefaResponseDTO(t.id, t.titulo, " +
+            "CASE WHEN :incluirDescricao = true THEN t.descricao ELSE CAST(NULL AS String) END, t.status, " +
+            "t.prioridade, t.dataCriacao, t.dataAtualizacao, t.dataConclusao, t.versao) FROM TarefaArquivada t ";
+
+    @Modifying
+    @Query(value = "INSERT INTO tarefas_arquivadas (id, titulo, descricao, status, prioridade, prioridade_rank, " +
+                   "data_criacao, data_atualizacao, data_conclusao, versao, data_arquivamento) " +
+                   "SELECT id, titulo, descricao, status, prioridade, prioridade_rank, data_criacao, " +
+                   "data_atualizacao, data_conclusao, versao, :agora FROM tarefas WHERE id IN :ids",
+           nativeQuery = true)
+    int arquivar(Collection<Long> ids, LocalDateTime agora);
+
+    @Query(value = "SELECT id FROM tarefas_arquivadas WHERE data_arquivamento < :limite " +
+                   "ORDER BY data_arquivamento, id LIMIT :tamanho", nativeQuery = true)
+    List<Long> listarExpiradas(LocalDateTime limite, int tamanho);
+
+    @Modifying
+    @Query("DELETE FROM TarefaArquivada t WHERE t.id IN :ids")
+    int expurgar(Collection<Long> ids);
+
+    @Query(SELECT_PROJECAO + "WHERE t.id > :idApos ORDER BY t.id ASC")
+    List<TarefaResponseDTO> listarProjecao(Long idApos, boolean incluirDescricao, Limit limite);
+
+    @Query(SELECT_PROJECAO + "WHERE t.status = :status AND t.id > :idApos ORDER BY t.id ASC")
+    List<TarefaResponseDTO> listarProjecaoPorStatus(StatusTarefa status, Long idApos, boolean incluirDescricao,
+                                                    Limit limite);
+
+    @Query(SELECT_PROJECAO + "WHERE t.prioridade = :prioridade AND t.id > :idApos ORDER BY t.id ASC")
+    List<TarefaResponseDTO> listarProjecaoPorPrioridade(Prioridade prioridade, Long idApos, boolean incluirDescricao,
+                                                        Limit limite);
+
+    @Query(SELECT_PROJECAO + "WHERE t.id = :id")
+    Optional<TarefaResponseDTO> buscarProjecaoPorId(Long id, boolean incluirDescricao);
+
+    @Query("SELECT t.versao FROM TarefaArquivada t WHERE t.id = :id")
+    Optional<Long> findVersaoById(Long id);
+}
@@ -0,0 +1,14 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.model.Prioridade;
+
+import java.time.LocalDateTime;
+
+public interface TarefaEnfileirada {
+
+    Long getId();
+
+    Prioridade getPrioridade();
+
+    LocalDateTime getDataCriacao();
+}
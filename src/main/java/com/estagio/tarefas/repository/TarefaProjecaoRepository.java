@@ -0,0 +1,39 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de leitura que projetam direto em {@link TarefaResponseDTO}, sem carregar entidades no
+ * contexto de persistência. Com {@code incluirDescricao = false} a coluna descricao não é lida.
+ */
+public interface TarefaProjecaoRepository {
+
+    List<TarefaResponseDTO> listarProjecao(Long idApos, int limite, boolean incluirDescricao);
+
+    List<TarefaResponseDTO> listarProjecaoPorStatus(StatusTarefa status, Long idApos, int limite,
+                                                    boolean incluirDescricao);
+
+    List<TarefaResponseDTO> listarProjecaoPorPrioridade(Prioridade prioridade, Long idApos, int limite,
+                                                        boolean incluirDescricao);
+
+    List<TarefaResponseDTO> listarProjecaoOrdenada(Integer prioridadeRank, LocalDateTime dataCriacao, Long idApos,
+                                                   int limite, boolean incluirDescricao);
+
+    /**
+     * Tarefas alteradas depois da posição (dataAtualizacao, id) e antes de {@code ate}, na ordem dessa chave.
+     */
+    List<TarefaResponseDTO> listarProjecaoAlteradas(LocalDateTime dataAtualizacao, Long idApos, LocalDateTime ate,
+                                                    int limite);
+
+    List<TarefaResponseDTO> buscarProjecaoPorIds(Collection<Long> ids, boolean incluirDescricao);
+
+    /** Próxima página, em ordem de id, das tarefas do filtro com id maior que {@code idApos}. */
+    List<TarefaResponseDTO> exportarProjecao(FiltroExportacaoDTO filtro, Long idApos, int limite);
+}
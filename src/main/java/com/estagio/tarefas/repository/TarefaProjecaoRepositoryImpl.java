@@ -0,0 +1,132 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TarefaProjecaoRepositoryImpl implements TarefaProjecaoRepository {
+
+    private static final String SELECT_PROJECAO = "SELECT new com.estagio.tarefas.dto.TarefaResponseDTO("
+            + "t.id, t.titulo, %s, t.status, t.prioridade, t.dataCriacao, t.dataAtualizacao, t.dataConclusao, "
+            + "t.versao) FROM Tarefa t ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TarefaResponseDTO> listarProjecao(Long idApos, int limite, boolean incluirDescricao) {
+        return consulta("WHERE t.id > :id ORDER BY t.id ASC", incluirDescricao, limite)
+                .setParameter("id", idApos)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> listarProjecaoPorStatus(StatusTarefa status, Long idApos, int limite,
+                                                           boolean incluirDescricao) {
+        return consulta("WHERE t.status = :status AND t.id > :id ORDER BY t.id ASC", incluirDescricao, limite)
+                .setParameter("status", status)
+                .setParameter("id", idApos)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> listarProjecaoPorPrioridade(Prioridade prioridade, Long idApos, int limite,
+                                                               boolean incluirDescricao) {
+        return consulta("WHERE t.prioridade = :prioridade AND t.id > :id ORDER BY t.id ASC", incluirDescricao, limite)
+                .setParameter("prioridade", prioridade)
+                .setParameter("id", idApos)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> listarProjecaoOrdenada(Integer prioridadeRank, LocalDateTime dataCriacao,
+                                                          Long idApos, int limite, boolean incluirDescricao) {
+        String ordem = "ORDER BY t.prioridadeRank ASC, t.dataCriacao ASC, t.id ASC";
+        if (prioridadeRank == null) {
+            return consulta(ordem, incluirDescricao, limite).getResultList();
+        }
+        return consulta("WHERE t.prioridadeRank >= :prioridadeRank "
+                        + "AND (t.prioridadeRank > :prioridadeRank OR (t.dataCriacao > :dataCriacao "
+                        + "OR (t.dataCriacao = :dataCriacao AND t.id > :id))) " + ordem,
+                incluirDescricao, limite)
+                .setParameter("prioridadeRank", prioridadeRank)
+                .setParameter("dataCriacao", dataCriacao)
+                .setParameter("id", idApos)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> listarProjecaoAlteradas(LocalDateTime dataAtualizacao, Long idApos,
+                                                           LocalDateTime ate, int limite) {
+        return consulta("WHERE t.dataAtualizacao >= :dataAtualizacao AND t.dataAtualizacao < :ate "
+                        + "AND (t.dataAtualizacao > :dataAtualizacao OR t.id > :id) "
+                        + "ORDER BY t.dataAtualizacao ASC, t.id ASC", true, limite)
+                .setParameter("dataAtualizacao", dataAtualizacao)
+                .setParameter("ate", ate)
+                .setParameter("id", idApos)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> buscarProjecaoPorIds(Collection<Long> ids, boolean incluirDescricao) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return consulta("WHERE t.id IN :ids", incluirDescricao, ids.size())
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public List<TarefaResponseDTO> exportarProjecao(FiltroExportacaoDTO filtro, Long idApos, int limite) {
+        List<String> condicoes = new ArrayList<>();
+        condicoes.add("t.id > :id");
+        if (filtro.getStatus() != null) {
+            condicoes.add("t.status = :status");
+        }
+        if (filtro.getPrioridade() != null) {
+            condicoes.add("t.prioridade = :prioridade");
+        }
+        if (filtro.getCriadaDe() != null) {
+            condicoes.add("t.dataCriacao >= :criadaDe");
+        }
+        if (filtro.getCriadaAte() != null) {
+            condicoes.add("t.dataCriacao < :criadaAte");
+        }
+
+        TypedQuery<TarefaResponseDTO> query = consulta(
+                "WHERE " + String.join(" AND ", condicoes) + " ORDER BY t.id ASC", true, limite)
+                .setParameter("id", idApos);
+        if (filtro.getStatus() != null) {
+            query.setParameter("status", filtro.getStatus());
+        }
+        if (filtro.getPrioridade() != null) {
+            query.setParameter("prioridade", filtro.getPrioridade());
+        }
+        if (filtro.getCriadaDe() != null) {
+            query.setParameter("criadaDe", filtro.getCriadaDe());
+        }
+        if (filtro.getCriadaAte() != null) {
+            query.setParameter("criadaAte", filtro.getCriadaAte());
+        }
+        return query.getResultList();
+    }
+
+    private TypedQuery<TarefaResponseDTO> consulta(String restante, boolean incluirDescricao, int limite) {
+        String descricao = incluirDescricao ? "t.descricao" : "CAST(NULL AS String)";
+        return entityManager.createQuery(String.format(SELECT_PROJECAO, descricao) + restante,
+                        TarefaResponseDTO.class)
+                .setMaxResults(limite)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, limite);
+    }
+}
@@ -0,0 +1,33 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.model.TarefaRemovida;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TarefaRemovidaRepository extends JpaRepository<TarefaRemovida, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO tarefas_removidas (id, data_remocao) " +
+                   "SELECT id, :agora FROM tarefas WHERE id IN :ids", nativeQuery = true)
+    int registrarRemocao(Collection<Long> ids, LocalDateTime agora);
+
+    @Query("SELECT r FROM TarefaRemovida r WHERE r.dataRemocao >= :data AND r.dataRemocao < :ate " +
+           "AND (r.dataRemocao > :data OR r.id > :id) ORDER BY r.dataRemocao ASC, r.id ASC")
+    List<TarefaRemovida> listarRemovidasApos(LocalDateTime data, Long id, LocalDateTime ate, Limit limite);
+
+    @Query(value = "SELECT id FROM tarefas_removidas WHERE data_remocao < :limite " +
+                   "ORDER BY data_remocao, id LIMIT :tamanho", nativeQuery = true)
+    List<Long> listarExpiradas(LocalDateTime limite, int tamanho);
+
+    @Modifying
+    @Query("DELETE FROM TarefaRemovida r WHERE r.id IN :ids")
+    int expurgar(Collection<Long> ids);
+}
@@ -4,24 +4,70 @@ import com.estagio.tarefas.model.Prioridade;
 import com.estagio.tarefas.model.StatusTarefa;
 import com.estagio.tarefas.model.Tarefa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+public interface TarefaRepository extends JpaRepository<Tarefa, Long>, TarefaProjecaoRepository {
 
-    List<Tarefa> findByStatus(StatusTarefa status);
+    List<Tarefa> findByStatusAndPrioridade(StatusTarefa status, Prioridade prioridade);
 
-    List<Tarefa> findByPrioridade(Prioridade prioridade);
+    @Query("SELECT t.status, t.prioridade, COUNT(t) FROM Tarefa t GROUP BY t.status, t.prioridade")
+    List<Object[]> contarPorStatusEPrioridade();
 
-    List<Tarefa> findByStatusAndPrioridade(StatusTarefa status, Prioridade prioridade);
+    long countByDataConclusaoGreaterThanEqual(LocalDateTime dataConclusao);
+
+    @Query("SELECT COUNT(t), COALESCE(SUM((t.dataConclusao - t.dataCriacao) BY SECOND), 0) " +
+           "FROM Tarefa t WHERE t.dataConclusao IS NOT NULL")
+    List<Object[]> somarTempoConclusao();
+
+    @Query("SELECT t.id FROM Tarefa t WHERE t.id IN :ids")
+    List<Long> buscarIdsExistentes(Collection<Long> ids);
+
+    @Query("SELECT t.versao FROM Tarefa t WHERE t.id = :id")
+    Optional<Long> findVersaoById(Long id);
+
+    @Query("SELECT t.id AS id, t.prioridade AS prioridade, t.dataCriacao AS dataCriacao " +
+           "FROM Tarefa t WHERE t.status = com.estagio.tarefas.model.StatusTarefa.PENDENTE")
+    List<TarefaEnfileirada> listarPendentes();
+
+    /** Trava a próxima tarefa pendente na ordem de prioridade, pulando as já travadas por outras transações. */
+    @Query(value = "SELECT id FROM tarefas WHERE status = 'PENDENTE' " +
+                   "ORDER BY prioridade_rank, data_criacao, id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Long> travarProximaPendente();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = com.estagio.tarefas.model.StatusTarefa.EM_ANDAMENTO, " +
+           "t.dataAtualizacao = :agora, t.versao = t.versao + 1 " +
+           "WHERE t.id = :id AND t.status = com.estagio.tarefas.model.StatusTarefa.PENDENTE")
+    int iniciarSePendente(Long id, LocalDateTime agora);
 
-    @Query("SELECT t FROM Tarefa t WHERE LOWER(t.titulo) LIKE LOWER(CONCAT('%', :termo, '%')) " +
-           "OR LOWER(t.descricao) LIKE LOWER(CONCAT('%', :termo, '%'))")
-    List<Tarefa> buscarPorTermo(String termo);
+    /**
+     * Trava as tarefas concluídas ou canceladas sem alterações desde {@code limite}, pulando as que estão
+     * sendo alteradas. A data_atualizacao nunca é anterior à data_conclusao.
+     */
+    @Query(value = "SELECT id FROM tarefas WHERE data_atualizacao < :limite AND status IN ('CONCLUIDA', 'CANCELADA') " +
+                   "ORDER BY data_atualizacao, id LIMIT :tamanho FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> travarArquivaveis(LocalDateTime limite, int tamanho);
 
-    @Query("SELECT t FROM Tarefa t ORDER BY t.prioridade DESC, t.dataCriacao ASC")
-    List<Tarefa> findAllOrderByPrioridadeAndData();
+    /**
+     * Altera o status se a tarefa não estiver concluída (ou se o novo status também for concluída) e, quando
+     * informados, se o status e a versão atuais forem os esperados.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Tarefa t SET t.status = :status, t.dataAtualizacao = :agora, t.versao = t.versao + 1, " +
+           "t.dataConclusao = CASE WHEN :status = com.estagio.tarefas.model.StatusTarefa.CONCLUIDA " +
+           "THEN COALESCE(t.dataConclusao, :agora) ELSE t.dataConclusao END " +
+           "WHERE t.id = :id AND (t.status <> com.estagio.tarefas.model.StatusTarefa.CONCLUIDA " +
+           "OR :status = com.estagio.tarefas.model.StatusTarefa.CONCLUIDA) " +
+           "AND (:statusAnterior IS NULL OR t.status = :statusAnterior) " +
+           "AND (:versao IS NULL OR t.versao = :versao)")
+    int atualizarStatusSeNaoConcluida(Long id, StatusTarefa status, StatusTarefa statusAnterior, Long versao,
+                                      LocalDateTime agora);
 }
@@ -0,0 +1,102 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantém os índices de busca e de filtro. Como no {@code SnapshotTarefas}, uma tarefa removida ou arquivada fica
+ * marcada (os IDs vêm de uma sequence e não são reutilizados) e não volta aos índices; durante a reindexação,
+ * a versão aplicada por cada evento é guardada, e uma linha lida do banco antes do commit desse evento é
+ * descartada em vez de sobrescrevê-lo. A verificação e a escrita nos índices acontecem sob a mesma trava.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndiceBuscaListener {
+
+    private static final int TAMANHO_LOTE_REINDEXACAO = 1000;
+
+    private final IndiceBuscaTarefas indiceBusca;
+    private final IndiceFiltroTarefas indiceFiltro;
+    private final TarefaRepository tarefaRepository;
+
+    private final Object trava = new Object();
+    private final Roaring64Bitmap removidas = new Roaring64Bitmap();
+    private Map<Long, Long> versoesDuranteCarga;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexar() {
+        synchronized (trava) {
+            versoesDuranteCarga = new HashMap<>();
+            indiceBusca.limpar();
+            indiceFiltro.limpar();
+        }
+
+        long total = 0;
+        Long ultimoId = 0L;
+        List<TarefaResponseDTO> lote;
+        try {
+            do {
+                lote = tarefaRepository.listarProjecao(ultimoId, TAMANHO_LOTE_REINDEXACAO, true);
+                if (!lote.isEmpty()) {
+                    synchronized (trava) {
+                        List<TarefaResponseDTO> atuais = lote.stream().filter(this::maisRecente).toList();
+                        indiceBusca.indexarLote(atuais);
+                        indiceFiltro.indexarLote(atuais);
+                    }
+                    ultimoId = lote.get(lote.size() - 1).getId();
+                    total += lote.size();
+                }
+            } while (lote.size() == TAMANHO_LOTE_REINDEXACAO);
+        } finally {
+            synchronized (trava) {
+                versoesDuranteCarga = null;
+            }
+        }
+
+        log.info("Índices de busca e de filtro reconstruídos com {} tarefas", total);
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        TarefaResponseDTO tarefa = evento.getTarefa();
+        synchronized (trava) {
+            if (evento.getTipo() == TarefaAlteradaEvent.Tipo.REMOVIDA
+                    || evento.getTipo() == TarefaAlteradaEvent.Tipo.ARQUIVADA) {
+                removidas.addLong(tarefa.getId());
+                indiceBusca.remover(tarefa.getId());
+                indiceFiltro.remover(tarefa.getId());
+            } else if (maisRecente(tarefa)) {
+                if (versoesDuranteCarga != null) {
+                    versoesDuranteCarga.put(tarefa.getId(), versao(tarefa));
+                }
+                indiceBusca.indexar(tarefa);
+                indiceFiltro.indexar(tarefa);
+            }
+        }
+    }
+
+    private boolean maisRecente(TarefaResponseDTO tarefa) {
+        if (removidas.contains(tarefa.getId())) {
+            return false;
+        }
+        Long aplicada = versoesDuranteCarga == null ? null : versoesDuranteCarga.get(tarefa.getId());
+        return aplicada == null || versao(tarefa) > aplicada;
+    }
+
+    private static long versao(TarefaResponseDTO tarefa) {
+        return tarefa.getVersao() == null ? 0 : tarefa.getVersao();
+    }
+}
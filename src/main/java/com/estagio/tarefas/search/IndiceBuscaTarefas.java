@@ -0,0 +1,218 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Índice invertido em memória sobre título e descrição das tarefas.
+ * Os termos são normalizados sem acentos e em minúsculas, e a busca combina
+ * correspondência exata (ranqueada por BM25) com correspondência por prefixo.
+ * As escritas só são publicadas para leitura na próxima busca, evitando reabrir
+ * o leitor a cada tarefa indexada.
+ */
+@Component
+public class IndiceBuscaTarefas {
+
+    private static final String CAMPO_ID = "id";
+    private static final String CAMPO_ID_ORDEM = "id_ordem";
+    private static final String CAMPO_TITULO = "titulo";
+    private static final String CAMPO_DESCRICAO = "descricao";
+    private static final float PESO_TITULO = 2.0f;
+
+    private static final Sort ORDENACAO = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(CAMPO_ID_ORDEM, SortField.Type.LONG));
+
+    private final Analyzer analyzer;
+    private final Directory diretorio;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean alteracoesPendentes = new AtomicBoolean();
+
+    public IndiceBuscaTarefas() {
+        try {
+            this.analyzer = criarAnalyzer();
+            this.diretorio = new ByteBuffersDirectory();
+            this.writer = new IndexWriter(diretorio, new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o índice de busca", e);
+        }
+    }
+
+    public void indexar(TarefaResponseDTO tarefa) {
+        indexarLote(List.of(tarefa));
+    }
+
+    public void indexarLote(Collection<TarefaResponseDTO> tarefas) {
+        try {
+            for (TarefaResponseDTO tarefa : tarefas) {
+                writer.updateDocument(new Term(CAMPO_ID, tarefa.getId().toString()), criarDocumento(tarefa));
+            }
+            alteracoesPendentes.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao indexar tarefas", e);
+        }
+    }
+
+    public void remover(Long id) {
+        try {
+            writer.deleteDocuments(new Term(CAMPO_ID, id.toString()));
+            alteracoesPendentes.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover tarefa do índice", e);
+        }
+    }
+
+    public void limpar() {
+        try {
+            writer.deleteAll();
+            alteracoesPendentes.set(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao limpar o índice de busca", e);
+        }
+    }
+
+    public List<ResultadoBusca> buscar(String termo, Float scoreApos, Long idApos, int quantidade) {
+        List<String> tokens = analisar(termo);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            if (alteracoesPendentes.getAndSet(false)) {
+                searcherManager.maybeRefreshBlocking();
+            }
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query consulta = criarConsulta(tokens);
+                TopDocs topDocs;
+                if (idApos == null) {
+                    topDocs = searcher.search(consulta, quantidade, ORDENACAO, true);
+                } else if (searcher.getIndexReader().maxDoc() == 0) {
+                    return List.of();
+                } else {
+                    int ultimoDoc = searcher.getIndexReader().maxDoc() - 1;
+                    FieldDoc apos = new FieldDoc(ultimoDoc, scoreApos, new Object[]{scoreApos, idApos});
+                    topDocs = searcher.searchAfter(apos, consulta, quantidade, ORDENACAO, true);
+                }
+
+                List<ResultadoBusca> resultados = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+                    resultados.add(new ResultadoBusca((Long) fieldDoc.fields[1], fieldDoc.score));
+                }
+                return resultados;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao consultar o índice de busca", e);
+        }
+    }
+
+    @PreDestroy
+    public void fechar() throws IOException {
+        searcherManager.close();
+        writer.close();
+        diretorio.close();
+    }
+
+    private Document criarDocumento(TarefaResponseDTO tarefa) {
+        Document documento = new Document();
+        documento.add(new StringField(CAMPO_ID, tarefa.getId().toString(), Field.Store.NO));
+        documento.add(new NumericDocValuesField(CAMPO_ID_ORDEM, tarefa.getId()));
+        documento.add(new TextField(CAMPO_TITULO, tarefa.getTitulo(), Field.Store.NO));
+        if (tarefa.getDescricao() != null) {
+            documento.add(new TextField(CAMPO_DESCRICAO, tarefa.getDescricao(), Field.Store.NO));
+        }
+        return documento;
+    }
+
+    private Query criarConsulta(List<String> tokens) {
+        BooleanQuery.Builder consulta = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            BooleanQuery.Builder porToken = new BooleanQuery.Builder();
+            porToken.add(new BoostQuery(new TermQuery(new Term(CAMPO_TITULO, token)), PESO_TITULO),
+                    BooleanClause.Occur.SHOULD);
+            porToken.add(new TermQuery(new Term(CAMPO_DESCRICAO, token)), BooleanClause.Occur.SHOULD);
+            porToken.add(new PrefixQuery(new Term(CAMPO_TITULO, token)), BooleanClause.Occur.SHOULD);
+            porToken.add(new PrefixQuery(new Term(CAMPO_DESCRICAO, token)), BooleanClause.Occur.SHOULD);
+            consulta.add(porToken.build(), BooleanClause.Occur.MUST);
+        }
+        return consulta.build();
+    }
+
+    private List<String> analisar(String texto) {
+        List<String> tokens = new ArrayList<>();
+        if (texto == null) {
+            return tokens;
+        }
+        try (TokenStream stream = analyzer.tokenStream(CAMPO_TITULO, texto)) {
+            CharTermAttribute termo = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(termo.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao analisar o termo de busca", e);
+        }
+        return tokens;
+    }
+
+    private static Analyzer criarAnalyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String campo) {
+                Tokenizer tokenizer = new StandardTokenizer();
+                TokenStream filtro = new LowerCaseFilter(tokenizer);
+                filtro = new ASCIIFoldingFilter(filtro);
+                return new TokenStreamComponents(tokenizer, filtro);
+            }
+
+            @Override
+            protected TokenStream normalize(String campo, TokenStream entrada) {
+                return new ASCIIFoldingFilter(new LowerCaseFilter(entrada));
+            }
+        };
+    }
+}
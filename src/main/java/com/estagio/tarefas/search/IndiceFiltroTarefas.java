@@ -0,0 +1,152 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmaps compactados (Roaring) com os IDs das tarefas de cada combinação de status e prioridade. Como cada
+ * tarefa está em um único bitmap, um filtro com vários valores em cada dimensão é a união dos bitmaps
+ * selecionados: as contagens são somas das cardinalidades e a página é uma intercalação dos bitmaps a partir
+ * do cursor, sem materializar a união nem acessar o banco; só os IDs da página são buscados depois. Mantido
+ * pelo {@link IndiceBuscaListener} junto com o índice de busca.
+ */
+@Component
+public class IndiceFiltroTarefas {
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private final Roaring64Bitmap[][] bitmaps = new Roaring64Bitmap[STATUS.length][PRIORIDADES.length];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public IndiceFiltroTarefas() {
+        for (Roaring64Bitmap[] porPrioridade : bitmaps) {
+            for (int p = 0; p < porPrioridade.length; p++) {
+                porPrioridade[p] = new Roaring64Bitmap();
+            }
+        }
+    }
+
+    public void indexar(TarefaResponseDTO tarefa) {
+        indexarLote(List.of(tarefa));
+    }
+
+    public void indexarLote(Collection<TarefaResponseDTO> tarefas) {
+        lock.writeLock().lock();
+        try {
+            for (TarefaResponseDTO tarefa : tarefas) {
+                desmarcar(tarefa.getId());
+                bitmaps[tarefa.getStatus().ordinal()][tarefa.getPrioridade().ordinal()].addLong(tarefa.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Long id) {
+        lock.writeLock().lock();
+        try {
+            desmarcar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            for (Roaring64Bitmap[] porPrioridade : bitmaps) {
+                for (Roaring64Bitmap bitmap : porPrioridade) {
+                    bitmap.clear();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * IDs em ordem crescente, maiores que {@code idApos}, das tarefas com algum dos status e alguma das
+     * prioridades informadas (conjunto vazio ou nulo não filtra a dimensão), com as contagens do filtro todo.
+     */
+    public ResultadoFiltro filtrar(Set<StatusTarefa> status, Set<Prioridade> prioridades, long idApos,
+                                   int quantidade) {
+        Map<StatusTarefa, Long> porStatus = new EnumMap<>(StatusTarefa.class);
+        Map<Prioridade, Long> porPrioridade = new EnumMap<>(Prioridade.class);
+        Arrays.stream(STATUS).forEach(s -> porStatus.put(s, 0L));
+        Arrays.stream(PRIORIDADES).forEach(p -> porPrioridade.put(p, 0L));
+        List<PeekableLongIterator> iteradores = new ArrayList<>();
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            for (StatusTarefa s : STATUS) {
+                if (!contem(status, s)) {
+                    continue;
+                }
+                for (Prioridade p : PRIORIDADES) {
+                    if (!contem(prioridades, p)) {
+                        continue;
+                    }
+                    Roaring64Bitmap bitmap = bitmaps[s.ordinal()][p.ordinal()];
+                    long cardinalidade = bitmap.getLongCardinality();
+                    total += cardinalidade;
+                    porStatus.merge(s, cardinalidade, Long::sum);
+                    porPrioridade.merge(p, cardinalidade, Long::sum);
+                    PeekableLongIterator iterador = bitmap.getLongIteratorFrom(idApos + 1);
+                    if (iterador.hasNext()) {
+                        iteradores.add(iterador);
+                    }
+                }
+            }
+            return new ResultadoFiltro(intercalar(iteradores, quantidade), total, porStatus, porPrioridade);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void desmarcar(Long id) {
+        for (Roaring64Bitmap[] porPrioridade : bitmaps) {
+            for (Roaring64Bitmap bitmap : porPrioridade) {
+                bitmap.removeLong(id);
+            }
+        }
+    }
+
+    /** Os bitmaps são disjuntos, então basta retirar sempre o menor próximo ID entre eles. */
+    private static List<Long> intercalar(List<PeekableLongIterator> iteradores, int quantidade) {
+        List<Long> ids = new ArrayList<>(quantidade);
+        while (ids.size() < quantidade && !iteradores.isEmpty()) {
+            int menor = 0;
+            for (int i = 1; i < iteradores.size(); i++) {
+                if (iteradores.get(i).peekNext() < iteradores.get(menor).peekNext()) {
+                    menor = i;
+                }
+            }
+            PeekableLongIterator iterador = iteradores.get(menor);
+            ids.add(iterador.next());
+            if (!iterador.hasNext()) {
+                iteradores.remove(menor);
+            }
+        }
+        return ids;
+    }
+
+    private static <E> boolean contem(Set<E> valores, E valor) {
+        return valores == null || valores.isEmpty() || valores.contains(valor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.estagio.tarefas.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResultadoBusca {
+
+    private final Long id;
+    private final float score;
+}
@@ -0,0 +1,19 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ResultadoFiltro {
+
+    private final List<Long> ids;
+    private final long total;
+    private final Map<StatusTarefa, Long> porStatus;
+    private final Map<Prioridade, Long> porPrioridade;
+}
@@ -0,0 +1,157 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.repository.TarefaArquivadaRepository;
+import com.estagio.tarefas.repository.TarefaRemovidaRepository;
+import com.estagio.tarefas.repository.TarefaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Move periodicamente as tarefas concluídas ou canceladas há mais de {@code tarefas.arquivamento.idade} para
+ * a tabela {@code tarefas_arquivadas} e expurga do arquivo as que passaram de {@code tarefas.arquivamento.retencao},
+ * junto com os registros de remoção mais antigos que a mesma retenção.
+ * O trabalho é feito em blocos, cada um em sua própria transação curta; as linhas travadas por outras
+ * transações ficam para a próxima execução.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tarefas.arquivamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class ArquivamentoService {
+
+    private final TarefaRepository tarefaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final TarefaRemovidaRepository tarefaRemovidaRepository;
+    private final TransactionTemplate transacao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock relogio;
+    private final Duration idade;
+    private final Duration retencao;
+    private final int tamanhoLote;
+    private final Counter arquivadas;
+    private final Counter expurgadas;
+    private final Counter remocoesExpurgadas;
+
+    @Autowired
+    public ArquivamentoService(TarefaRepository tarefaRepository,
+                               TarefaArquivadaRepository tarefaArquivadaRepository,
+                               TarefaRemovidaRepository tarefaRemovidaRepository,
+                               TransactionTemplate transacao,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${tarefas.arquivamento.idade:30d}") Duration idade,
+                               @Value("${tarefas.arquivamento.retencao:365d}") Duration retencao,
+                               @Value("${tarefas.arquivamento.tamanho-lote:500}") int tamanhoLote) {
+        this(tarefaRepository, tarefaArquivadaRepository, tarefaRemovidaRepository, transacao, eventPublisher,
+                meterRegistry, Clock.systemDefaultZone(), idade, retencao, tamanhoLote);
+    }
+
+    ArquivamentoService(TarefaRepository tarefaRepository, TarefaArquivadaRepository tarefaArquivadaRepository,
+                        TarefaRemovidaRepository tarefaRemovidaRepository, TransactionTemplate transacao,
+                        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, Clock relogio,
+                        Duration idade, Duration retencao, int tamanhoLote) {
+        this.tarefaRepository = tarefaRepository;
+        this.tarefaArquivadaRepository = tarefaArquivadaRepository;
+        this.tarefaRemovidaRepository = tarefaRemovidaRepository;
+        this.transacao = transacao;
+        this.eventPublisher = eventPublisher;
+        this.relogio = relogio;
+        this.idade = idade;
+        this.retencao = retencao;
+        this.tamanhoLote = tamanhoLote;
+        this.arquivadas = Counter.builder("tarefas.arquivamento.arquivadas")
+                .description("Tarefas movidas para o arquivo")
+                .register(meterRegistry);
+        this.expurgadas = Counter.builder("tarefas.arquivamento.expurgadas")
+                .description("Tarefas excluídas do arquivo pela retenção")
+                .register(meterRegistry);
+        this.remocoesExpurgadas = Counter.builder("tarefas.arquivamento.remocoes-expurgadas")
+                .description("Registros de remoção excluídos pela retenção")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tarefas.arquivamento.intervalo-ms:3600000}",
+               initialDelayString = "${tarefas.arquivamento.atraso-inicial-ms:60000}")
+    public void executar() {
+        int movidas = arquivar();
+        int removidas = expurgar();
+        if (movidas > 0 || removidas > 0) {
+            log.info("Arquivamento: {} tarefas arquivadas, {} expurgadas do arquivo", movidas, removidas);
+        }
+    }
+
+    public int arquivar() {
+        LocalDateTime limite = LocalDateTime.now(relogio).minus(idade);
+        int total = 0;
+        int movidas;
+        do {
+            movidas = transacao.execute(status -> arquivarLote(limite));
+            total += movidas;
+            arquivadas.increment(movidas);
+        } while (movidas == tamanhoLote);
+        return total;
+    }
+
+    /**
+     * Expurga as tarefas do arquivo e os registros de remoção além da retenção, um bloco de cada por transação.
+     * Os registros de remoção mais novos que a retenção nunca são expurgados, e {@code /alteracoes} pede uma
+     * sincronização completa aos cursores mais antigos que ela.
+     */
+    public int expurgar() {
+        LocalDateTime limite = LocalDateTime.now(relogio).minus(retencao);
+        int total = 0;
+        Expurgo expurgo;
+        do {
+            expurgo = transacao.execute(status -> new Expurgo(
+                    expurgarBloco(tarefaArquivadaRepository.listarExpiradas(limite, tamanhoLote),
+                            tarefaArquivadaRepository::expurgar),
+                    expurgarBloco(tarefaRemovidaRepository.listarExpiradas(limite, tamanhoLote),
+                            tarefaRemovidaRepository::expurgar)));
+            total += expurgo.tarefas();
+            expurgadas.increment(expurgo.tarefas());
+            remocoesExpurgadas.increment(expurgo.remocoes());
+        } while (expurgo.tarefas() == tamanhoLote || expurgo.remocoes() == tamanhoLote);
+        return total;
+    }
+
+    private static int expurgarBloco(List<Long> ids, ToIntFunction<List<Long>> expurgar) {
+        return ids.isEmpty() ? 0 : expurgar.applyAsInt(ids);
+    }
+
+    /**
+     * As tarefas arquivadas também recebem o registro de remoção, para que os clientes da sincronização
+     * incremental as descartem como fariam com uma exclusão.
+     */
+    private int arquivarLote(LocalDateTime limite) {
+        List<Long> ids = tarefaRepository.travarArquivaveis(limite, tamanhoLote);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<TarefaResponseDTO> tarefas = tarefaRepository.buscarProjecaoPorIds(ids, true);
+        LocalDateTime agora = LocalDateTime.now(relogio);
+        tarefaArquivadaRepository.arquivar(ids, agora);
+        tarefaRemovidaRepository.registrarRemocao(ids, agora);
+        tarefaRepository.deleteAllByIdInBatch(ids);
+        tarefas.forEach(tarefa ->
+                eventPublisher.publishEvent(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ARQUIVADA, tarefa)));
+        return ids.size();
+    }
+
+    private record Expurgo(int tarefas, int remocoes) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica a posição da última linha de uma página em um cursor opaco (Base64 URL-safe),
+ * usado na paginação por keyset dos endpoints de listagem.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARADOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String codificar(Object... partes) {
+        StringBuilder valor = new StringBuilder();
+        for (int i = 0; i < partes.length; i++) {
+            if (i > 0) {
+                valor.append(SEPARADOR);
+            }
+            valor.append(partes[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodificar(String cursor, int quantidadePartes) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\" + SEPARADOR, -1);
+            if (partes.length != quantidadePartes) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    public static Long decodificarId(String cursor) {
+        String[] partes = decodificar(cursor, 1);
+        try {
+            return Long.valueOf(partes[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.EstatisticasDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contadores em memória das tarefas por status e prioridade, concluídas no dia e tempo de conclusão.
+ * São atualizados a cada alteração confirmada e reconciliados periodicamente com o banco. As consultas da
+ * reconciliação rodam numa única transação somente leitura, e as alterações aplicadas enquanto ela está em
+ * andamento ficam num buffer que é reaplicado sobre o resultado, para não serem perdidas até a próxima rodada.
+ * Uma alteração confirmada entre o início da reconciliação e a leitura do banco pode ser contada duas vezes;
+ * a rodada seguinte corrige.
+ */
+@Slf4j
+@Service
+public class EstatisticasService {
+
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+    private static final int LIMITE_PENDENTES = 10_000;
+
+    private final TarefaRepository tarefaRepository;
+    private final TransactionTemplate leitura;
+    private final Clock relogio;
+    private final Duration intervaloReconciliacao;
+
+    private final long[][] contagens = new long[STATUS.length][PRIORIDADES.length];
+    private LocalDate dia;
+    private long concluidasHoje;
+    private long totalConcluidas;
+    private long segundosConclusao;
+    private LocalDateTime ultimaReconciliacao;
+
+    /** Incrementada a cada reconciliação iniciada; só a mais recente aplica o resultado. */
+    private long geracao;
+    /** Pares (anterior, atual) aplicados durante a reconciliação em andamento, ou null fora dela. */
+    private List<TarefaResponseDTO[]> pendentes;
+
+    @Autowired
+    public EstatisticasService(TarefaRepository tarefaRepository, PlatformTransactionManager transactionManager,
+                               @Value("${tarefas.estatisticas.intervalo-reconciliacao:5m}") Duration intervaloReconciliacao) {
+        this(tarefaRepository, transacaoDeLeitura(transactionManager), Clock.systemDefaultZone(),
+                intervaloReconciliacao);
+    }
+
+    EstatisticasService(TarefaRepository tarefaRepository, TransactionTemplate leitura, Clock relogio,
+                        Duration intervaloReconciliacao) {
+        this.tarefaRepository = tarefaRepository;
+        this.leitura = leitura;
+        this.relogio = relogio;
+        this.intervaloReconciliacao = intervaloReconciliacao;
+        this.dia = LocalDate.now(relogio);
+    }
+
+    public synchronized EstatisticasDTO obter() {
+        virarDia();
+
+        long total = 0;
+        Map<StatusTarefa, Long> porStatus = new EnumMap<>(StatusTarefa.class);
+        Map<Prioridade, Long> porPrioridade = new EnumMap<>(Prioridade.class);
+        Map<StatusTarefa, Map<Prioridade, Long>> porStatusEPrioridade = new EnumMap<>(StatusTarefa.class);
+        for (StatusTarefa status : STATUS) {
+            Map<Prioridade, Long> linha = new EnumMap<>(Prioridade.class);
+            for (Prioridade prioridade : PRIORIDADES) {
+                long quantidade = contagens[status.ordinal()][prioridade.ordinal()];
+                linha.put(prioridade, quantidade);
+                porStatus.merge(status, quantidade, Long::sum);
+                porPrioridade.merge(prioridade, quantidade, Long::sum);
+                total += quantidade;
+            }
+            porStatusEPrioridade.put(status, linha);
+        }
+
+        Double tempoMedio = totalConcluidas > 0 ? (double) segundosConclusao / totalConcluidas : null;
+        return new EstatisticasDTO(total, porStatus, porPrioridade, porStatusEPrioridade,
+                concluidasHoje, tempoMedio, ultimaReconciliacao);
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        switch (evento.getTipo()) {
+            case CRIADA -> aplicar(null, evento.getTarefa());
+            case REMOVIDA, ARQUIVADA -> aplicar(evento.getTarefa(), null);
+            case ATUALIZADA -> {
+                if (evento.getAnterior() == null) {
+                    solicitarReconciliacao();
+                } else {
+                    aplicar(evento.getAnterior(), evento.getTarefa());
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tarefas.estatisticas.verificacao-ms:1000}")
+    public void reconciliarSeNecessario() {
+        LocalDateTime ultima;
+        synchronized (this) {
+            ultima = ultimaReconciliacao;
+        }
+        if (ultima == null || !LocalDateTime.now(relogio).isBefore(ultima.plus(intervaloReconciliacao))) {
+            reconciliar();
+        }
+    }
+
+    public void reconciliar() {
+        LocalDateTime agora = LocalDateTime.now(relogio);
+        long minhaGeracao;
+        synchronized (this) {
+            minhaGeracao = ++geracao;
+            pendentes = new ArrayList<>();
+        }
+        Snapshot snapshot = leitura.execute(status -> new Snapshot(
+                tarefaRepository.contarPorStatusEPrioridade(),
+                tarefaRepository.countByDataConclusaoGreaterThanEqual(agora.toLocalDate().atStartOfDay()),
+                tarefaRepository.somarTempoConclusao().get(0)));
+
+        int reaplicadas;
+        synchronized (this) {
+            if (minhaGeracao != geracao) {
+                return;
+            }
+            List<TarefaResponseDTO[]> alteracoes = pendentes;
+            pendentes = null;
+            if (alteracoes == null) {
+                log.debug("Reconciliação descartada: alterações demais durante a leitura");
+                ultimaReconciliacao = null;
+                return;
+            }
+            for (long[] linha : contagens) {
+                Arrays.fill(linha, 0);
+            }
+            for (Object[] grupo : snapshot.grupos()) {
+                contagens[((StatusTarefa) grupo[0]).ordinal()][((Prioridade) grupo[1]).ordinal()] =
+                        ((Number) grupo[2]).longValue();
+            }
+            dia = agora.toLocalDate();
+            concluidasHoje = snapshot.hoje();
+            totalConcluidas = ((Number) snapshot.conclusao()[0]).longValue();
+            segundosConclusao = ((Number) snapshot.conclusao()[1]).longValue();
+            ultimaReconciliacao = agora;
+            for (TarefaResponseDTO[] alteracao : alteracoes) {
+                contabilizar(alteracao[0], alteracao[1]);
+            }
+            reaplicadas = alteracoes.size();
+        }
+        log.debug("Estatísticas reconciliadas: {} grupos, {} concluídas hoje, {} alterações reaplicadas",
+                snapshot.grupos().size(), snapshot.hoje(), reaplicadas);
+    }
+
+    private synchronized void solicitarReconciliacao() {
+        ultimaReconciliacao = null;
+    }
+
+    private synchronized void aplicar(TarefaResponseDTO anterior, TarefaResponseDTO atual) {
+        virarDia();
+        contabilizar(anterior, atual);
+        if (pendentes != null) {
+            pendentes.add(new TarefaResponseDTO[]{anterior, atual});
+            if (pendentes.size() > LIMITE_PENDENTES) {
+                // a reconciliação em andamento será descartada e repetida na próxima verificação
+                pendentes = null;
+            }
+        }
+    }
+
+    private void contabilizar(TarefaResponseDTO anterior, TarefaResponseDTO atual) {
+        if (anterior != null) {
+            contabilizar(anterior, -1);
+        }
+        if (atual != null) {
+            contabilizar(atual, 1);
+        }
+    }
+
+    private void contabilizar(TarefaResponseDTO tarefa, int sinal) {
+        contagens[tarefa.getStatus().ordinal()][tarefa.getPrioridade().ordinal()] += sinal;
+        if (tarefa.getDataConclusao() != null && tarefa.getDataCriacao() != null) {
+            totalConcluidas += sinal;
+            segundosConclusao += sinal * Duration.between(tarefa.getDataCriacao(), tarefa.getDataConclusao()).getSeconds();
+            if (tarefa.getDataConclusao().toLocalDate().equals(dia)) {
+                concluidasHoje += sinal;
+            }
+        }
+    }
+
+    private void virarDia() {
+        LocalDate hoje = LocalDate.now(relogio);
+        if (!hoje.equals(dia)) {
+            dia = hoje;
+            concluidasHoje = 0;
+        }
+    }
+
+    private static TransactionTemplate transacaoDeLeitura(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return template;
+    }
+
+    private record Snapshot(List<Object[]> grupos, long hoje, Object[] conclusao) {
+    }
+}
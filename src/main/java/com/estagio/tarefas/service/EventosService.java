@@ -0,0 +1,251 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Feed de alterações das tarefas por Server-Sent Events. Cada alteração confirmada recebe um ID sequencial e
+ * fica em um buffer circular com os eventos mais recentes, usado para retomar a partir do Last-Event-ID.
+ * Cada assinante tem uma fila limitada de envios pendentes, esvaziada por uma virtual thread própria enquanto
+ * houver eventos, na ordem em que foram publicados: um cliente lento não atrasa os demais, e as conexões
+ * ociosas não ocupam threads. O assinante cuja fila enche é desconectado; o EventSource reconecta com o
+ * Last-Event-ID e retoma do buffer ou recebe o evento de reinício.
+ */
+@Slf4j
+@Service
+public class EventosService {
+
+    static final String EVENTO_REINICIO = "reinicio";
+
+    private final EventoTarefa[] buffer;
+    private final long epoca;
+    private final long timeout;
+    private final int pendentesPorAssinante;
+    private final Executor despacho;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+
+    private long ultimaSequencia;
+
+    @Autowired
+    public EventosService(@Value("${tarefas.eventos.buffer:1000}") int tamanhoBuffer,
+                          @Value("${tarefas.eventos.timeout:30m}") Duration timeout,
+                          @Value("${tarefas.eventos.pendentes-por-assinante:256}") int pendentesPorAssinante,
+                          MeterRegistry meterRegistry) {
+        this(tamanhoBuffer, timeout, pendentesPorAssinante, System.currentTimeMillis(),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("eventos-tarefas-", 0).factory()));
+        Gauge.builder("tarefas.eventos.assinantes", assinantes, Set::size)
+                .description("Conexões abertas no feed de eventos")
+                .register(meterRegistry);
+    }
+
+    EventosService(int tamanhoBuffer, Duration timeout, int pendentesPorAssinante, long epoca, Executor despacho) {
+        this.buffer = new EventoTarefa[tamanhoBuffer];
+        this.timeout = timeout.toMillis();
+        this.pendentesPorAssinante = pendentesPorAssinante;
+        this.epoca = epoca;
+        this.despacho = despacho;
+    }
+
+    public SseEmitter assinar(String ultimoId, Set<StatusTarefa> status, Set<Prioridade> prioridades) {
+        Assinante assinante = new Assinante(novoEmissor(), status, prioridades, pendentesPorAssinante);
+        assinante.emissor.onCompletion(() -> assinantes.remove(assinante));
+        assinante.emissor.onTimeout(() -> assinantes.remove(assinante));
+        assinante.emissor.onError(erro -> assinantes.remove(assinante));
+
+        synchronized (this) {
+            List<EventoTarefa> perdidos = ultimoId == null ? List.of() : eventosApos(ultimoId);
+            if (perdidos != null) {
+                perdidos = perdidos.stream().filter(assinante::aceita).toList();
+            }
+            if (perdidos == null || perdidos.size() > pendentesPorAssinante) {
+                assinante.pendentes.add(SseEmitter.event()
+                        .id(epoca + "-" + ultimaSequencia)
+                        .name(EVENTO_REINICIO)
+                        .data(""));
+            } else {
+                perdidos.forEach(evento -> assinante.pendentes.add(mensagem(evento)));
+            }
+            assinantes.add(assinante);
+        }
+        agendar(assinante);
+        return assinante.emissor;
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        // Entregar não bloqueia (só enfileira), então pode ficar dentro do bloco: cada fila recebe os eventos
+        // na ordem da sequência, e quem assina vê cada evento uma vez, pelos perdidos ou pela entrega.
+        synchronized (this) {
+            EventoTarefa eventoTarefa = new EventoTarefa(++ultimaSequencia, evento.getTipo(), evento.getTarefa(),
+                    evento.getAnterior());
+            buffer[(int) (eventoTarefa.sequencia % buffer.length)] = eventoTarefa;
+            for (Assinante assinante : assinantes) {
+                if (assinante.aceita(eventoTarefa)) {
+                    entregar(assinante, mensagem(eventoTarefa));
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tarefas.eventos.heartbeat-ms:15000}")
+    public void enviarHeartbeat() {
+        for (Assinante assinante : assinantes) {
+            if (assinante.pendentes.isEmpty()) {
+                entregar(assinante, SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (despacho instanceof ExecutorService servico) {
+            servico.shutdown();
+        }
+        assinantes.forEach(assinante -> assinante.emissor.complete());
+    }
+
+    SseEmitter novoEmissor() {
+        return new SseEmitter(timeout);
+    }
+
+    int assinantes() {
+        return assinantes.size();
+    }
+
+    /**
+     * Eventos posteriores ao ID informado, ou null quando não é possível retomar: o ID é de outra execução
+     * da aplicação ou os eventos seguintes já saíram do buffer.
+     */
+    private List<EventoTarefa> eventosApos(String ultimoId) {
+        long sequencia;
+        try {
+            int separador = ultimoId.indexOf('-');
+            if (separador < 0 || Long.parseLong(ultimoId.substring(0, separador)) != epoca) {
+                return null;
+            }
+            sequencia = Long.parseLong(ultimoId.substring(separador + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        long maisAntiga = Math.max(1, ultimaSequencia - buffer.length + 1);
+        if (sequencia > ultimaSequencia || sequencia < maisAntiga - 1) {
+            return null;
+        }
+        List<EventoTarefa> eventos = new ArrayList<>((int) (ultimaSequencia - sequencia));
+        for (long s = sequencia + 1; s <= ultimaSequencia; s++) {
+            eventos.add(buffer[(int) (s % buffer.length)]);
+        }
+        return eventos;
+    }
+
+    private SseEmitter.SseEventBuilder mensagem(EventoTarefa evento) {
+        return SseEmitter.event()
+                .id(epoca + "-" + evento.sequencia)
+                .name(evento.tipo.name().toLowerCase())
+                .data(evento.tarefa, MediaType.APPLICATION_JSON);
+    }
+
+    private void entregar(Assinante assinante, SseEmitter.SseEventBuilder mensagem) {
+        if (assinante.pendentes.offer(mensagem)) {
+            agendar(assinante);
+        } else if (assinantes.remove(assinante)) {
+            log.info("Assinante de eventos desconectado: {} envios pendentes", pendentesPorAssinante);
+            assinante.transbordou = true;
+            assinante.pendentes.clear();
+            agendar(assinante);
+        }
+    }
+
+    private void agendar(Assinante assinante) {
+        if (assinante.agendado.compareAndSet(false, true)) {
+            despacho.execute(() -> esvaziar(assinante));
+        }
+    }
+
+    /** Só uma execução por assinante fica ativa (flag agendado), o que mantém a ordem dos envios. */
+    private void esvaziar(Assinante assinante) {
+        SseEmitter.SseEventBuilder mensagem;
+        while (!assinante.transbordou && (mensagem = assinante.pendentes.poll()) != null) {
+            try {
+                assinante.emissor.send(mensagem);
+            } catch (IOException | IllegalStateException e) {
+                descartar(assinante);
+                return;
+            }
+        }
+        if (assinante.transbordou) {
+            assinante.emissor.complete();
+            return;
+        }
+        assinante.agendado.set(false);
+        if (!assinante.pendentes.isEmpty()) {
+            agendar(assinante);
+        }
+    }
+
+    private void descartar(Assinante assinante) {
+        if (assinantes.remove(assinante)) {
+            log.debug("Assinante de eventos desconectado");
+            assinante.emissor.complete();
+        }
+    }
+
+    private record EventoTarefa(long sequencia, TarefaAlteradaEvent.Tipo tipo, TarefaResponseDTO tarefa,
+                                TarefaResponseDTO anterior) {
+    }
+
+    private static final class Assinante {
+
+        private final SseEmitter emissor;
+        private final Set<StatusTarefa> status;
+        private final Set<Prioridade> prioridades;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pendentes;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private volatile boolean transbordou;
+
+        private Assinante(SseEmitter emissor, Set<StatusTarefa> status, Set<Prioridade> prioridades,
+                          int capacidade) {
+            this.emissor = emissor;
+            this.status = status;
+            this.prioridades = prioridades;
+            this.pendentes = new ArrayBlockingQueue<>(capacidade);
+        }
+
+        /** Uma alteração que tira a tarefa do filtro também é enviada, para que o cliente a remova da tela. */
+        boolean aceita(EventoTarefa evento) {
+            return corresponde(evento.tarefa) || (evento.anterior != null && corresponde(evento.anterior));
+        }
+
+        private boolean corresponde(TarefaResponseDTO tarefa) {
+            return (status == null || status.isEmpty() || status.contains(tarefa.getStatus()))
+                    && (prioridades == null || prioridades.isEmpty() || prioridades.contains(tarefa.getPrioridade()));
+        }
+    }
+}
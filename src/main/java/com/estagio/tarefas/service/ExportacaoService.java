@@ -0,0 +1,100 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.FormatoExportacao;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.repository.TarefaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Exporta as tarefas do filtro em NDJSON ou CSV. A leitura é paginada por id, cada página em uma transação
+ * curta, e a página é escrita na resposta depois do commit: a conexão do pool fica livre enquanto o cliente
+ * baixa, por mais lento que ele seja. Sem uma transação única, uma tarefa alterada durante a exportação sai
+ * com o estado lido na sua página, e cada tarefa sai no máximo uma vez.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportacaoService {
+
+    static final int TAMANHO_PAGINA = 500;
+    private static final String CABECALHO_CSV =
+            "id,titulo,descricao,status,prioridade,dataCriacao,dataAtualizacao,dataConclusao,versao";
+
+    private final TarefaRepository tarefaRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transacao;
+
+    public void validarFiltro(FiltroExportacaoDTO filtro) {
+        if (filtro.getCriadaDe() != null && filtro.getCriadaAte() != null
+                && !filtro.getCriadaDe().isBefore(filtro.getCriadaAte())) {
+            throw new BusinessException("A data inicial deve ser anterior à data final");
+        }
+    }
+
+    public void exportar(FiltroExportacaoDTO filtro, FormatoExportacao formato, OutputStream saida)
+            throws IOException {
+        validarFiltro(filtro);
+
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        ObjectWriter json = objectMapper.writerFor(TarefaResponseDTO.class);
+        if (formato == FormatoExportacao.CSV) {
+            escritor.write(CABECALHO_CSV);
+            escritor.write('\n');
+        }
+        Long ultimoId = 0L;
+        List<TarefaResponseDTO> pagina;
+        do {
+            Long idApos = ultimoId;
+            pagina = transacao.execute(status -> tarefaRepository.exportarProjecao(filtro, idApos, TAMANHO_PAGINA));
+            for (TarefaResponseDTO tarefa : pagina) {
+                if (formato == FormatoExportacao.CSV) {
+                    escreverCsv(tarefa, escritor);
+                } else {
+                    escritor.write(json.writeValueAsString(tarefa));
+                }
+                escritor.write('\n');
+            }
+            escritor.flush();
+            if (!pagina.isEmpty()) {
+                ultimoId = pagina.get(pagina.size() - 1).getId();
+            }
+        } while (pagina.size() == TAMANHO_PAGINA);
+    }
+
+    private void escreverCsv(TarefaResponseDTO tarefa, Writer escritor) throws IOException {
+        escritor.write(String.join(",",
+                campoCsv(tarefa.getId()),
+                campoCsv(tarefa.getTitulo()),
+                campoCsv(tarefa.getDescricao()),
+                campoCsv(tarefa.getStatus()),
+                campoCsv(tarefa.getPrioridade()),
+                campoCsv(tarefa.getDataCriacao()),
+                campoCsv(tarefa.getDataAtualizacao()),
+                campoCsv(tarefa.getDataConclusao()),
+                campoCsv(tarefa.getVersao())));
+    }
+
+    private static String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.contains(",") || texto.contains("\"") || texto.contains("\n") || texto.contains("\r")) {
+            return "\"" + texto.replace("\"", "\"\"") + "\"";
+        }
+        return texto;
+    }
+}
@@ -0,0 +1,186 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.repository.TarefaEnfileirada;
+import com.estagio.tarefas.repository.TarefaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Despacho da próxima tarefa pendente para os workers. As tarefas PENDENTE ficam em memória, em um conjunto
+ * ordenado sem travas por prioridade (mais antigas primeiro), carregado na inicialização e atualizado pelos
+ * eventos de alteração. Cada entrada retirada da memória só é entregue se o UPDATE condicional no banco
+ * confirmar que a tarefa ainda está PENDENTE; quando a memória se esgota, a próxima tarefa é buscada no banco
+ * com {@code FOR UPDATE SKIP LOCKED}, o que também cobre tarefas alteradas por outras instâncias.
+ */
+@Slf4j
+@Service
+public class FilaTarefasService {
+
+    private static final Comparator<Entrada> ORDEM = Comparator.comparing(Entrada::dataCriacao)
+            .thenComparingLong(Entrada::id);
+    private static final Prioridade[] PRIORIDADES_POR_RANK = Arrays.stream(Prioridade.values())
+            .sorted(Comparator.comparingInt(Prioridade::getRank))
+            .toArray(Prioridade[]::new);
+
+    private final TarefaRepository tarefaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Prioridade, NavigableSet<Entrada>> filas = new EnumMap<>(Prioridade.class);
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+    private final Counter despachadasMemoria;
+    private final Counter despachadasBanco;
+
+    @Autowired
+    public FilaTarefasService(TarefaRepository tarefaRepository, ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry) {
+        this.tarefaRepository = tarefaRepository;
+        this.eventPublisher = eventPublisher;
+        for (Prioridade prioridade : Prioridade.values()) {
+            filas.put(prioridade, new ConcurrentSkipListSet<>(ORDEM));
+        }
+        this.despachadasMemoria = despachadas(meterRegistry, "memoria");
+        this.despachadasBanco = despachadas(meterRegistry, "banco");
+        Gauge.builder("tarefas.fila.pendentes", entradas, Map::size)
+                .description("Tarefas pendentes na fila em memória")
+                .register(meterRegistry);
+    }
+
+    FilaTarefasService(TarefaRepository tarefaRepository, ApplicationEventPublisher eventPublisher) {
+        this(tarefaRepository, eventPublisher, new SimpleMeterRegistry());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        int carregadas = 0;
+        for (TarefaEnfileirada tarefa : tarefaRepository.listarPendentes()) {
+            adicionar(tarefa.getId(), tarefa.getPrioridade(), tarefa.getDataCriacao());
+            carregadas++;
+        }
+        log.info("Fila de tarefas carregada com {} tarefas pendentes", carregadas);
+    }
+
+    /** Passa a tarefa pendente mais prioritária e mais antiga para EM_ANDAMENTO, ou vazio se não houver. */
+    @Transactional
+    public Optional<TarefaResponseDTO> despacharProxima() {
+        LocalDateTime agora = LocalDateTime.now();
+        for (Prioridade prioridade : PRIORIDADES_POR_RANK) {
+            NavigableSet<Entrada> fila = filas.get(prioridade);
+            Entrada entrada;
+            while ((entrada = fila.pollFirst()) != null) {
+                entradas.remove(entrada.id(), entrada);
+                int iniciadas;
+                try {
+                    iniciadas = tarefaRepository.iniciarSePendente(entrada.id(), agora);
+                } catch (RuntimeException e) {
+                    adicionar(entrada.id(), entrada.prioridade(), entrada.dataCriacao());
+                    throw e;
+                }
+                if (iniciadas == 1) {
+                    devolverSeDesfeita(entrada);
+                    despachadasMemoria.increment();
+                    return Optional.of(publicarInicio(entrada.id()));
+                }
+            }
+        }
+
+        Optional<Long> id = tarefaRepository.travarProximaPendente();
+        if (id.isEmpty() || tarefaRepository.iniciarSePendente(id.get(), agora) == 0) {
+            return Optional.empty();
+        }
+        despachadasBanco.increment();
+        return Optional.of(publicarInicio(id.get()));
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        TarefaResponseDTO tarefa = evento.getTarefa();
+        remover(tarefa.getId());
+        if (evento.getTipo() != TarefaAlteradaEvent.Tipo.REMOVIDA && tarefa.getStatus() == StatusTarefa.PENDENTE) {
+            adicionar(tarefa.getId(), tarefa.getPrioridade(), tarefa.getDataCriacao());
+        }
+    }
+
+    int pendentes() {
+        return entradas.size();
+    }
+
+    private TarefaResponseDTO publicarInicio(Long id) {
+        Tarefa tarefa = tarefaRepository.findById(id).orElseThrow();
+        TarefaResponseDTO atual = TarefaResponseDTO.fromEntity(tarefa);
+        TarefaResponseDTO anterior = TarefaResponseDTO.fromEntity(tarefa);
+        anterior.setStatus(StatusTarefa.PENDENTE);
+        anterior.setVersao(tarefa.getVersao() - 1);
+        eventPublisher.publishEvent(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA, atual, anterior));
+        return atual;
+    }
+
+    /**
+     * A entrada sai da memória antes do commit, para que outro despacho não a escolha; se a transação for
+     * desfeita (inclusive no próprio commit), a tarefa continua PENDENTE no banco e volta para a fila.
+     */
+    private void devolverSeDesfeita(Entrada entrada) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    adicionar(entrada.id(), entrada.prioridade(), entrada.dataCriacao());
+                }
+            }
+        });
+    }
+
+    private void adicionar(Long id, Prioridade prioridade, LocalDateTime dataCriacao) {
+        Entrada entrada = new Entrada(id, prioridade, dataCriacao);
+        Entrada anterior = entradas.put(id, entrada);
+        if (anterior != null) {
+            filas.get(anterior.prioridade()).remove(anterior);
+        }
+        filas.get(prioridade).add(entrada);
+    }
+
+    private void remover(Long id) {
+        Entrada entrada = entradas.remove(id);
+        if (entrada != null) {
+            filas.get(entrada.prioridade()).remove(entrada);
+        }
+    }
+
+    private static Counter despachadas(MeterRegistry meterRegistry, String origem) {
+        return Counter.builder("tarefas.fila.despachadas")
+                .description("Tarefas entregues por POST /api/tarefas/proxima")
+                .tag("origem", origem)
+                .register(meterRegistry);
+    }
+
+    private record Entrada(long id, Prioridade prioridade, LocalDateTime dataCriacao) {
+    }
+}
@@ -0,0 +1,335 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.IngestaoStatusDTO;
+import com.estagio.tarefas.dto.SituacaoIngestao;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.exception.FilaIngestaoCheiaException;
+import com.estagio.tarefas.exception.SobrecargaException;
+import com.estagio.tarefas.repository.TarefaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingestão assíncrona de tarefas (write-behind). Cada tarefa aceita é validada, recebe um ID de um bloco
+ * reservado na sequence {@code tarefas_seq}, é registrada no journal local e entra em uma fila em memória.
+ * Uma única thread esvazia a fila gravando as tarefas acumuladas em uma transação com insert em lote.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "tarefas.ingestao.habilitada", havingValue = "true")
+public class IngestaoService {
+
+    /** Mesmo allocationSize da sequence em {@code Tarefa}: cada valor reserva os 50 IDs que terminam nele. */
+    static final int TAMANHO_BLOCO_IDS = 50;
+
+    private static final String INSERT_TAREFA = "INSERT INTO tarefas (id, titulo, descricao, status, prioridade, " +
+            "prioridade_rank, data_criacao, data_atualizacao, versao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final long ESPERA_MAXIMA_RETENTATIVA_MS = 5_000;
+
+    private final TarefaService tarefaService;
+    private final TarefaRepository tarefaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transacao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JournalIngestao journal;
+    private final String consultaProximoBloco;
+    private final int capacidade;
+    private final int tamanhoLote;
+
+    private final BlockingQueue<TarefaIngestao> fila = new LinkedBlockingQueue<>();
+    private final AtomicInteger emAndamento = new AtomicInteger();
+    private final Set<Long> pendentes = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, String> falhas = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    private long proximoId;
+    private long fimBloco = -1;
+    private volatile boolean recuperado;
+    private volatile boolean executando;
+    private Thread escritor;
+
+    @Autowired
+    public IngestaoService(TarefaService tarefaService,
+                           TarefaRepository tarefaRepository,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transacao,
+                           ApplicationEventPublisher eventPublisher,
+                           ObjectMapper objectMapper,
+                           EntityManagerFactory entityManagerFactory,
+                           MeterRegistry meterRegistry,
+                           @Value("${tarefas.ingestao.journal:data/ingestao.journal}") Path arquivoJournal,
+                           @Value("${tarefas.ingestao.journal-compactacao:16MB}") DataSize limiteCompactacao,
+                           @Value("${tarefas.ingestao.capacidade:10000}") int capacidade,
+                           @Value("${tarefas.ingestao.tamanho-lote:500}") int tamanhoLote) throws IOException {
+        this(tarefaService, tarefaRepository, jdbcTemplate, transacao, eventPublisher,
+                new JournalIngestao(arquivoJournal, objectMapper, limiteCompactacao.toBytes()),
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                        .getSequenceSupport().getSequenceNextValString("tarefas_seq"),
+                capacidade, tamanhoLote);
+        Gauge.builder("tarefas.ingestao.fila", emAndamento, AtomicInteger::get)
+                .description("Tarefas aceitas pela ingestão e ainda não gravadas")
+                .register(meterRegistry);
+    }
+
+    IngestaoService(TarefaService tarefaService, TarefaRepository tarefaRepository, JdbcTemplate jdbcTemplate,
+                    TransactionTemplate transacao, ApplicationEventPublisher eventPublisher, JournalIngestao journal,
+                    String consultaProximoBloco, int capacidade, int tamanhoLote) {
+        this.tarefaService = tarefaService;
+        this.tarefaRepository = tarefaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transacao = transacao;
+        this.eventPublisher = eventPublisher;
+        this.journal = journal;
+        this.consultaProximoBloco = consultaProximoBloco;
+        this.capacidade = capacidade;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public IngestaoStatusDTO aceitar(TarefaRequestDTO dto) {
+        tarefaService.validarTarefa(dto);
+        if (!recuperado) {
+            throw new SobrecargaException(
+                    "A ingestão ainda está recuperando o journal, tente novamente em instantes");
+        }
+
+        if (emAndamento.incrementAndGet() > capacidade) {
+            emAndamento.decrementAndGet();
+            throw new FilaIngestaoCheiaException("A fila de ingestão está cheia");
+        }
+        try {
+            TarefaIngestao tarefa = new TarefaIngestao(alocarId(), dto.getTitulo(), dto.getDescricao(),
+                    dto.getStatus(), dto.getPrioridade(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            journal.registrar(tarefa);
+            pendentes.add(tarefa.getId());
+            fila.add(tarefa);
+            return new IngestaoStatusDTO(tarefa.getId(), SituacaoIngestao.PENDENTE, null);
+        } catch (IOException e) {
+            emAndamento.decrementAndGet();
+            throw new UncheckedIOException("Falha ao registrar a tarefa no journal", e);
+        } catch (RuntimeException e) {
+            emAndamento.decrementAndGet();
+            throw e;
+        }
+    }
+
+    public IngestaoStatusDTO consultar(Long id) {
+        if (pendentes.contains(id)) {
+            return new IngestaoStatusDTO(id, SituacaoIngestao.PENDENTE, null);
+        }
+        String erro = falhas.getIfPresent(id);
+        if (erro != null) {
+            return new IngestaoStatusDTO(id, SituacaoIngestao.FALHOU, erro);
+        }
+        tarefaService.buscarVersao(id);
+        return new IngestaoStatusDTO(id, SituacaoIngestao.GRAVADA, null);
+    }
+
+    /**
+     * Reenfileira o journal antes de o conector HTTP abrir: uma tarefa aceita antes disso seria lida de volta
+     * como não gravada e entraria duas vezes na fila.
+     */
+    @PostConstruct
+    public void recuperar() throws IOException {
+        List<TarefaIngestao> recuperadas = journal.recuperar();
+        if (!recuperadas.isEmpty()) {
+            reenfileirar(recuperadas);
+        }
+        recuperado = true;
+    }
+
+    /** A gravação só começa com a aplicação pronta, quando todos os listeners dos eventos já estão registrados. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        executando = true;
+        escritor = new Thread(this::escrever, "ingestao-tarefas");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    @PreDestroy
+    public void parar() throws InterruptedException, IOException {
+        executando = false;
+        if (escritor != null) {
+            escritor.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        journal.close();
+    }
+
+    private void reenfileirar(List<TarefaIngestao> recuperadas) throws IOException {
+        List<Long> ids = recuperadas.stream().map(TarefaIngestao::getId).toList();
+        Set<Long> gravadas = new HashSet<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += tamanhoLote) {
+            gravadas.addAll(tarefaRepository.buscarIdsExistentes(
+                    ids.subList(inicio, Math.min(inicio + tamanhoLote, ids.size()))));
+        }
+
+        long maiorId = 0;
+        for (TarefaIngestao tarefa : recuperadas) {
+            maiorId = Math.max(maiorId, tarefa.getId());
+            if (!gravadas.contains(tarefa.getId())) {
+                emAndamento.incrementAndGet();
+                pendentes.add(tarefa.getId());
+                fila.add(tarefa);
+            }
+        }
+        journal.confirmar(gravadas);
+
+        // Se o banco foi recriado, avança a sequence para que novos IDs não colidam com os recuperados.
+        synchronized (this) {
+            while (fimBloco - TAMANHO_BLOCO_IDS < maiorId) {
+                reservarBloco();
+            }
+        }
+        log.info("Journal de ingestão recuperado: {} tarefas reenfileiradas, {} já gravadas",
+                recuperadas.size() - gravadas.size(), gravadas.size());
+    }
+
+    private synchronized long alocarId() {
+        if (proximoId > fimBloco) {
+            reservarBloco();
+        }
+        return proximoId++;
+    }
+
+    private void reservarBloco() {
+        Long valor = jdbcTemplate.queryForObject(consultaProximoBloco, Long.class);
+        fimBloco = valor;
+        proximoId = valor - TAMANHO_BLOCO_IDS + 1;
+    }
+
+    private void escrever() {
+        while (executando || !fila.isEmpty()) {
+            try {
+                TarefaIngestao primeira = fila.poll(200, TimeUnit.MILLISECONDS);
+                if (primeira == null) {
+                    continue;
+                }
+                List<TarefaIngestao> lote = new ArrayList<>(tamanhoLote);
+                lote.add(primeira);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | IOException e) {
+                log.error("Falha inesperada na gravação da ingestão", e);
+            }
+        }
+    }
+
+    private void gravar(List<TarefaIngestao> lote) throws InterruptedException, IOException {
+        long espera = 100;
+        while (true) {
+            try {
+                inserir(lote);
+                concluir(lote);
+                return;
+            } catch (RuntimeException e) {
+                if (!transitoria(e)) {
+                    break;
+                }
+                if (!executando) {
+                    log.warn("Banco indisponível na parada; {} tarefas permanecem no journal", lote.size());
+                    return;
+                }
+                log.warn("Banco indisponível na ingestão, nova tentativa em {} ms: {}", espera, e.getMessage());
+                Thread.sleep(espera);
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_RETENTATIVA_MS);
+            }
+        }
+
+        // Erro não transitório: grava uma a uma para isolar as tarefas que falham.
+        for (TarefaIngestao tarefa : lote) {
+            try {
+                inserir(List.of(tarefa));
+                concluir(List.of(tarefa));
+            } catch (RuntimeException e) {
+                log.warn("Tarefa {} descartada pela ingestão: {}", tarefa.getId(), e.getMessage());
+                falhas.put(tarefa.getId(), "Não foi possível gravar a tarefa");
+                pendentes.remove(tarefa.getId());
+                emAndamento.decrementAndGet();
+                journal.confirmar(List.of(tarefa.getId()));
+            }
+        }
+    }
+
+    private void inserir(List<TarefaIngestao> lote) {
+        LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        transacao.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TAREFA, lote, lote.size(), (ps, tarefa) -> {
+                Timestamp criacao = Timestamp.valueOf(tarefa.getDataCriacao());
+                ps.setLong(1, tarefa.getId());
+                ps.setString(2, tarefa.getTitulo());
+                ps.setString(3, tarefa.getDescricao());
+                ps.setString(4, tarefa.getStatus().name());
+                ps.setString(5, tarefa.getPrioridade().name());
+                ps.setInt(6, tarefa.getPrioridade().getRank());
+                ps.setTimestamp(7, criacao);
+                ps.setTimestamp(8, Timestamp.valueOf(agora));
+            });
+            for (TarefaIngestao tarefa : lote) {
+                eventPublisher.publishEvent(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA,
+                        new TarefaResponseDTO(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao(),
+                                tarefa.getStatus(), tarefa.getPrioridade(), tarefa.getDataCriacao(),
+                                agora, null, 0L)));
+            }
+        });
+    }
+
+    private void concluir(List<TarefaIngestao> lote) throws IOException {
+        List<Long> ids = lote.stream().map(TarefaIngestao::getId).toList();
+        pendentes.removeAll(ids);
+        emAndamento.addAndGet(-lote.size());
+        journal.confirmar(ids);
+    }
+
+    private static boolean transitoria(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -0,0 +1,201 @@
+package com.estagio.tarefas.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Arquivo local (uma tarefa JSON por linha) com as tarefas aceitas pela ingestão e ainda não gravadas no banco.
+ * Cada registro só retorna após o fsync; registros concorrentes compartilham o mesmo fsync. Quando todas as
+ * tarefas registradas foram confirmadas o arquivo é truncado. Sob carga contínua a fila pode nunca esvaziar;
+ * por isso, quando o arquivo passa do limite de compactação e a maior parte dele já foi confirmada, as linhas
+ * pendentes são copiadas para um arquivo novo, que substitui o journal com uma renomeação atômica.
+ */
+class JournalIngestao implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final Path arquivo;
+    private final long limiteCompactacao;
+    private final Object travaSincronizacao = new Object();
+
+    /** Posição e tamanho da linha de cada tarefa não confirmada, na ordem do arquivo. */
+    private final Map<Long, Linha> naoConfirmadas = new LinkedHashMap<>();
+
+    private FileChannel canal;
+    private long bytesNaoConfirmados;
+    private long escritos;
+    private long sincronizados;
+
+    JournalIngestao(Path arquivo, ObjectMapper objectMapper, long limiteCompactacao) throws IOException {
+        this.objectMapper = objectMapper;
+        this.arquivo = arquivo;
+        this.limiteCompactacao = limiteCompactacao;
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        this.canal = abrir(arquivo);
+    }
+
+    /**
+     * Lê as tarefas registradas e não confirmadas antes de uma parada. Uma linha incompleta no fim do arquivo
+     * (queda durante a escrita, antes do fsync e portanto nunca confirmada ao cliente) é descartada.
+     */
+    synchronized List<TarefaIngestao> recuperar() throws IOException {
+        ByteBuffer conteudo = ByteBuffer.allocate(Math.toIntExact(canal.size()));
+        canal.read(conteudo, 0);
+        byte[] bytes = conteudo.array();
+
+        int fimValido = 0;
+        List<TarefaIngestao> tarefas = new ArrayList<>();
+        naoConfirmadas.clear();
+        bytesNaoConfirmados = 0;
+        for (int inicio = 0, i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                if (i > inicio) {
+                    TarefaIngestao tarefa = objectMapper.readValue(bytes, inicio, i - inicio, TarefaIngestao.class);
+                    tarefas.add(tarefa);
+                    adicionar(tarefa.getId(), inicio, i + 1 - inicio);
+                }
+                inicio = i + 1;
+                fimValido = inicio;
+            }
+        }
+
+        canal.truncate(fimValido);
+        canal.position(fimValido);
+        return tarefas;
+    }
+
+    void registrar(TarefaIngestao tarefa) throws IOException {
+        String linha = objectMapper.writeValueAsString(tarefa) + "\n";
+        ByteBuffer buffer = ByteBuffer.wrap(linha.getBytes(StandardCharsets.UTF_8));
+        long numero;
+        synchronized (this) {
+            long posicao = canal.position();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            adicionar(tarefa.getId(), posicao, buffer.limit());
+            numero = ++escritos;
+        }
+        sincronizar(numero);
+    }
+
+    /** Retira as tarefas do journal, em qualquer ordem; o arquivo é truncado ou compactado quando couber. */
+    void confirmar(Collection<Long> ids) throws IOException {
+        // Mesma ordem de travas do fsync, que não pode usar o canal enquanto a compactação o troca.
+        synchronized (travaSincronizacao) {
+            synchronized (this) {
+                for (Long id : ids) {
+                    Linha linha = naoConfirmadas.remove(id);
+                    if (linha != null) {
+                        bytesNaoConfirmados -= linha.tamanho();
+                    }
+                }
+                long tamanho = canal.position();
+                if (naoConfirmadas.isEmpty()) {
+                    canal.truncate(0);
+                    canal.position(0);
+                } else if (tamanho >= limiteCompactacao && bytesNaoConfirmados <= tamanho / 2) {
+                    compactar();
+                }
+            }
+        }
+    }
+
+    synchronized long naoConfirmados() {
+        return naoConfirmadas.size();
+    }
+
+    /**
+     * Copia as linhas pendentes para um arquivo temporário com fsync e o renomeia sobre o journal. Uma queda
+     * antes da renomeação deixa o journal antigo intacto; depois dela, o novo já tem tudo o que estava pendente.
+     */
+    private void compactar() throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".compactando");
+        Map<Long, Linha> compactadas = new LinkedHashMap<>();
+        try (FileChannel novo = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Map.Entry<Long, Linha> entrada : naoConfirmadas.entrySet()) {
+                Linha linha = entrada.getValue();
+                long posicao = novo.position();
+                ByteBuffer buffer = ByteBuffer.allocate(linha.tamanho());
+                while (buffer.hasRemaining()) {
+                    canal.read(buffer, linha.posicao() + buffer.position());
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    novo.write(buffer);
+                }
+                compactadas.put(entrada.getKey(), new Linha(posicao, linha.tamanho()));
+            }
+            novo.force(false);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        sincronizarDiretorio();
+
+        canal.close();
+        canal = abrir(arquivo);
+        canal.position(canal.size());
+        naoConfirmadas.clear();
+        naoConfirmadas.putAll(compactadas);
+        // Tudo o que foi escrito até aqui está no arquivo novo, já sincronizado.
+        sincronizados = escritos;
+    }
+
+    /** Torna a renomeação durável; nem todo sistema de arquivos permite abrir um diretório para fsync. */
+    private void sincronizarDiretorio() {
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        try (FileChannel canalDiretorio = FileChannel.open(diretorio, StandardOpenOption.READ)) {
+            canalDiretorio.force(true);
+        } catch (IOException e) {
+            // Sem fsync do diretório a renomeação ainda é atômica, só não é garantida após uma queda de energia.
+        }
+    }
+
+    private void adicionar(Long id, long posicao, int tamanho) {
+        naoConfirmadas.put(id, new Linha(posicao, tamanho));
+        bytesNaoConfirmados += tamanho;
+    }
+
+    private void sincronizar(long numero) throws IOException {
+        synchronized (travaSincronizacao) {
+            if (sincronizados >= numero) {
+                return;
+            }
+            long alvo;
+            synchronized (this) {
+                alvo = escritos;
+            }
+            canal.force(false);
+            sincronizados = alvo;
+        }
+    }
+
+    private static FileChannel abrir(Path arquivo) throws IOException {
+        return FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        canal.close();
+    }
+
+    private record Linha(long posicao, int tamanho) {
+    }
+}
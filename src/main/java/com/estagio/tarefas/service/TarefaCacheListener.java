@@ -0,0 +1,40 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.config.CacheConfig;
+import com.estagio.tarefas.config.CacheTarefas;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Grava no cache a tarefa criada ou alterada, montada depois do flush; o {@link CacheTarefas} recusa versões
+ * mais antigas, então a ordem entre este evento e uma leitura concorrente não importa.
+ */
+@Component
+@RequiredArgsConstructor
+public class TarefaCacheListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_TAREFAS);
+        if (cache == null) {
+            return;
+        }
+        Long id = evento.getTarefa().getId();
+        switch (evento.getTipo()) {
+            case CRIADA, ATUALIZADA -> cache.put(id, evento.getTarefa());
+            case REMOVIDA, ARQUIVADA -> {
+                if (cache instanceof CacheTarefas cacheTarefas) {
+                    cacheTarefas.marcarRemovida(id);
+                } else {
+                    cache.evict(id);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+class TarefaIngestao {
+
+    private Long id;
+    private String titulo;
+    private String descricao;
+    private StatusTarefa status;
+    private Prioridade prioridade;
+    private LocalDateTime dataCriacao;
+}
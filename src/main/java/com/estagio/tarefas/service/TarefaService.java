@@ -1,34 +1,126 @@
 package com.estagio.tarefas.service;
 
+import com.estagio.tarefas.config.CacheConfig;
+import com.estagio.tarefas.dto.AlteracoesDTO;
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.FiltroResponseDTO;
+import com.estagio.tarefas.dto.ItemLoteResultadoDTO;
+import com.estagio.tarefas.dto.LoteResultadoDTO;
+import com.estagio.tarefas.dto.PaginaResponseDTO;
 import com.estagio.tarefas.dto.TarefaRequestDTO;
 import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
 import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.exception.PreconditionFailedException;
 import com.estagio.tarefas.exception.ResourceNotFoundException;
 import com.estagio.tarefas.model.Prioridade;
 import com.estagio.tarefas.model.StatusTarefa;
 import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.model.TarefaRemovida;
+import com.estagio.tarefas.repository.TarefaArquivadaRepository;
+import com.estagio.tarefas.repository.TarefaRemovidaRepository;
 import com.estagio.tarefas.repository.TarefaRepository;
-import lombok.RequiredArgsConstructor;
+import com.estagio.tarefas.search.IndiceBuscaTarefas;
+import com.estagio.tarefas.search.IndiceFiltroTarefas;
+import com.estagio.tarefas.search.ResultadoBusca;
+import com.estagio.tarefas.search.ResultadoFiltro;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class TarefaService {
 
+    public static final int TAMANHO_PAGINA_PADRAO = 50;
+    public static final int TAMANHO_PAGINA_MAXIMO = 500;
+    public static final int TAMANHO_MAXIMO_LOTE = 10_000;
+    private static final int TAMANHO_BLOCO_LOTE = 500;
+    private static final int TENTATIVAS_ATUALIZACAO_STATUS = 3;
+    private static final LocalDateTime INICIO_ALTERACOES = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Alterações mais recentes que isso ficam para a próxima consulta: uma transação ainda aberta pode
+     * confirmar depois uma linha com dataAtualizacao anterior à última já entregue ao cliente.
+     */
+    static final Duration MARGEM_ALTERACOES = Duration.ofSeconds(5);
+
     private final TarefaRepository tarefaRepository;
+    private final TarefaRemovidaRepository tarefaRemovidaRepository;
+    private final TarefaArquivadaRepository tarefaArquivadaRepository;
+    private final IndiceBuscaTarefas indiceBusca;
+    private final IndiceFiltroTarefas indiceFiltro;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final Duration retencaoRemocoes;
+
+    public TarefaService(TarefaRepository tarefaRepository,
+                         TarefaRemovidaRepository tarefaRemovidaRepository,
+                         TarefaArquivadaRepository tarefaArquivadaRepository,
+                         IndiceBuscaTarefas indiceBusca,
+                         IndiceFiltroTarefas indiceFiltro,
+                         ApplicationEventPublisher eventPublisher,
+                         EntityManager entityManager,
+                         Validator validator,
+                         CacheManager cacheManager,
+                         @Value("${tarefas.arquivamento.retencao:365d}") Duration retencaoRemocoes) {
+        this.tarefaRepository = tarefaRepository;
+        this.tarefaRemovidaRepository = tarefaRemovidaRepository;
+        this.tarefaArquivadaRepository = tarefaArquivadaRepository;
+        this.indiceBusca = indiceBusca;
+        this.indiceFiltro = indiceFiltro;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.cacheManager = cacheManager;
+        this.retencaoRemocoes = retencaoRemocoes;
+    }
 
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> listarTodas() {
-        return tarefaRepository.findAll()
-                .stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+    public PaginaResponseDTO<TarefaResponseDTO> listarTodas(String cursor, Integer tamanho, CamposTarefa campos) {
+        return listarTodas(cursor, tamanho, campos, false);
+    }
+
+    /** Com {@code incluirArquivadas} as tarefas do arquivo entram na listagem, na mesma ordem de ID. */
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> listarTodas(String cursor, Integer tamanho, CamposTarefa campos,
+                                                            boolean incluirArquivadas) {
+        int limite = limitarTamanho(tamanho);
+        Long idApos = idInicial(cursor);
+        List<TarefaResponseDTO> tarefas = tarefaRepository.listarProjecao(idApos, limite + 1, incluirDescricao(campos));
+        if (incluirArquivadas) {
+            tarefas = combinarPorId(tarefas, tarefaArquivadaRepository.listarProjecao(
+                    idApos, incluirDescricao(campos), Limit.of(limite + 1)), limite + 1);
+        }
+        return montarPagina(tarefas, limite, t -> CursorCodec.codificar(t.getId()));
     }
 
+    @Cacheable(cacheNames = CacheConfig.CACHE_TAREFAS, key = "#id")
     @Transactional(readOnly = true)
     public TarefaResponseDTO buscarPorId(Long id) {
         Tarefa tarefa = tarefaRepository.findById(id)
@@ -36,70 +128,241 @@ public class TarefaService {
         return TarefaResponseDTO.fromEntity(tarefa);
     }
 
+    /** Procura também no arquivo; a consulta não passa pelo cache de tarefas. */
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> buscarPorStatus(StatusTarefa status) {
-        return tarefaRepository.findByStatus(status)
-                .stream()
+    public TarefaResponseDTO buscarPorIdIncluindoArquivadas(Long id) {
+        return tarefaRepository.findById(id)
                 .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+                .or(() -> tarefaArquivadaRepository.buscarProjecaoPorId(id, true))
+                .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> buscarPorPrioridade(Prioridade prioridade) {
-        return tarefaRepository.findByPrioridade(prioridade)
-                .stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+    public Long buscarVersao(Long id) {
+        return buscarVersao(id, false);
     }
 
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> buscarPorTermo(String termo) {
-        return tarefaRepository.buscarPorTermo(termo)
-                .stream()
-                .map(TarefaResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+    public Long buscarVersao(Long id, boolean incluirArquivadas) {
+        Optional<Long> versao = tarefaRepository.findVersaoById(id);
+        if (versao.isEmpty() && incluirArquivadas) {
+            versao = tarefaArquivadaRepository.findVersaoById(id);
+        }
+        return versao.orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<TarefaResponseDTO> listarOrdenadas() {
-        return tarefaRepository.findAllOrderByPrioridadeAndData()
-                .stream()
-                .map(TarefaResponseDTO::fromEntity)
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorStatus(StatusTarefa status, String cursor, Integer tamanho,
+                                                                CamposTarefa campos) {
+        return buscarPorStatus(status, cursor, tamanho, campos, false);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorStatus(StatusTarefa status, String cursor, Integer tamanho,
+                                                                CamposTarefa campos, boolean incluirArquivadas) {
+        int limite = limitarTamanho(tamanho);
+        Long idApos = idInicial(cursor);
+        List<TarefaResponseDTO> tarefas = tarefaRepository.listarProjecaoPorStatus(
+                status, idApos, limite + 1, incluirDescricao(campos));
+        if (incluirArquivadas) {
+            tarefas = combinarPorId(tarefas, tarefaArquivadaRepository.listarProjecaoPorStatus(
+                    status, idApos, incluirDescricao(campos), Limit.of(limite + 1)), limite + 1);
+        }
+        return montarPagina(tarefas, limite, t -> CursorCodec.codificar(t.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorPrioridade(Prioridade prioridade, String cursor,
+                                                                    Integer tamanho, CamposTarefa campos) {
+        return buscarPorPrioridade(prioridade, cursor, tamanho, campos, false);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorPrioridade(Prioridade prioridade, String cursor,
+                                                                    Integer tamanho, CamposTarefa campos,
+                                                                    boolean incluirArquivadas) {
+        int limite = limitarTamanho(tamanho);
+        Long idApos = idInicial(cursor);
+        List<TarefaResponseDTO> tarefas = tarefaRepository.listarProjecaoPorPrioridade(
+                prioridade, idApos, limite + 1, incluirDescricao(campos));
+        if (incluirArquivadas) {
+            tarefas = combinarPorId(tarefas, tarefaArquivadaRepository.listarProjecaoPorPrioridade(
+                    prioridade, idApos, incluirDescricao(campos), Limit.of(limite + 1)), limite + 1);
+        }
+        return montarPagina(tarefas, limite, t -> CursorCodec.codificar(t.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorTermo(String termo, String cursor, Integer tamanho,
+                                                               CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        Float scoreApos = null;
+        Long idApos = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = CursorCodec.decodificar(cursor, 2);
+            try {
+                scoreApos = Float.valueOf(partes[0]);
+                idApos = Long.valueOf(partes[1]);
+            } catch (NumberFormatException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+
+        List<ResultadoBusca> resultados = indiceBusca.buscar(termo, scoreApos, idApos, limite + 1);
+        String nextCursor = null;
+        if (resultados.size() > limite) {
+            resultados = resultados.subList(0, limite);
+            ResultadoBusca ultimo = resultados.get(limite - 1);
+            nextCursor = CursorCodec.codificar(ultimo.getScore(), ultimo.getId());
+        }
+
+        List<Long> ids = resultados.stream().map(ResultadoBusca::getId).collect(Collectors.toList());
+        Map<Long, TarefaResponseDTO> tarefasPorId = tarefaRepository.buscarProjecaoPorIds(
+                        ids, incluirDescricao(campos)).stream()
+                .collect(Collectors.toMap(TarefaResponseDTO::getId, Function.identity()));
+        List<TarefaResponseDTO> itens = ids.stream()
+                .map(tarefasPorId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return new PaginaResponseDTO<>(itens, itens.size(), nextCursor);
+    }
+
+    /**
+     * Tarefas com qualquer um dos status e qualquer uma das prioridades informadas, em ordem de ID, com o total
+     * e as contagens por status e prioridade do filtro. O filtro é resolvido nos bitmaps em memória; do banco
+     * vêm apenas as tarefas da página, e as que mudaram desde a atualização dos bitmaps são descartadas.
+     */
+    @Transactional(readOnly = true)
+    public FiltroResponseDTO filtrar(Set<StatusTarefa> status, Set<Prioridade> prioridades, String cursor,
+                                     Integer tamanho, CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        ResultadoFiltro resultado = indiceFiltro.filtrar(status, prioridades, idInicial(cursor), limite + 1);
+        List<Long> ids = resultado.getIds();
+        String nextCursor = null;
+        if (ids.size() > limite) {
+            ids = ids.subList(0, limite);
+            nextCursor = CursorCodec.codificar(ids.get(limite - 1));
+        }
+
+        List<TarefaResponseDTO> itens = List.of();
+        if (!ids.isEmpty()) {
+            Map<Long, TarefaResponseDTO> tarefasPorId = tarefaRepository.buscarProjecaoPorIds(
+                            ids, incluirDescricao(campos)).stream()
+                    .collect(Collectors.toMap(TarefaResponseDTO::getId, Function.identity()));
+            itens = ids.stream()
+                    .map(tarefasPorId::get)
+                    .filter(Objects::nonNull)
+                    .filter(t -> contem(status, t.getStatus()) && contem(prioridades, t.getPrioridade()))
+                    .collect(Collectors.toList());
+        }
+        return new FiltroResponseDTO(itens, itens.size(), nextCursor, resultado.getTotal(),
+                resultado.getPorStatus(), resultado.getPorPrioridade());
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaResponseDTO<TarefaResponseDTO> listarOrdenadas(String cursor, Integer tamanho, CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        List<TarefaResponseDTO> tarefas;
+        if (cursor == null || cursor.isBlank()) {
+            tarefas = tarefaRepository.listarProjecaoOrdenada(
+                    null, null, null, limite + 1, incluirDescricao(campos));
+        } else {
+            String[] partes = CursorCodec.decodificar(cursor, 3);
+            try {
+                tarefas = tarefaRepository.listarProjecaoOrdenada(
+                        Integer.valueOf(partes[0]),
+                        LocalDateTime.parse(partes[1]),
+                        Long.valueOf(partes[2]),
+                        limite + 1,
+                        incluirDescricao(campos));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+        return montarPagina(tarefas, limite,
+                t -> CursorCodec.codificar(t.getPrioridade().getRank(), t.getDataCriacao(), t.getId()));
+    }
+
+    /**
+     * Tarefas criadas ou alteradas e IDs das tarefas removidas desde o cursor, na ordem em que ocorreram.
+     * Sem cursor a consulta começa do início; o cursor devolvido deve ser usado na próxima sincronização.
+     * Os registros de remoção são expurgados após a retenção do arquivamento, então um cursor mais antigo que
+     * ela pode ter perdido remoções: a resposta pede uma sincronização completa em vez de continuar dele.
+     */
+    @Transactional(readOnly = true)
+    public AlteracoesDTO listarAlteracoes(String desde, Integer tamanho) {
+        int limite = limitarTamanho(tamanho);
+        LocalDateTime data = INICIO_ALTERACOES;
+        long id = 0L;
+        if (desde != null && !desde.isBlank()) {
+            String[] partes = CursorCodec.decodificar(desde, 2);
+            try {
+                data = LocalDateTime.parse(partes[0]);
+                id = Long.parseLong(partes[1]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            if (data.isBefore(LocalDateTime.now().minus(retencaoRemocoes))) {
+                return new AlteracoesDTO(List.of(), List.of(), null, false, true);
+            }
+        }
+
+        LocalDateTime ate = LocalDateTime.now().minus(MARGEM_ALTERACOES);
+        List<TarefaResponseDTO> alteradas = tarefaRepository.listarProjecaoAlteradas(data, id, ate, limite + 1);
+        List<TarefaRemovida> removidas = tarefaRemovidaRepository.listarRemovidasApos(
+                data, id, ate, Limit.of(limite + 1));
+
+        List<TarefaResponseDTO> itensAlterados = new ArrayList<>();
+        List<Long> idsRemovidos = new ArrayList<>();
+        int a = 0;
+        int r = 0;
+        String cursor = desde;
+        while (a + r < limite && (a < alteradas.size() || r < removidas.size())) {
+            boolean proximaAlterada = r == removidas.size() || (a < alteradas.size()
+                    && antes(alteradas.get(a).getDataAtualizacao(), alteradas.get(a).getId(),
+                    removidas.get(r).getDataRemocao(), removidas.get(r).getId()));
+            if (proximaAlterada) {
+                TarefaResponseDTO tarefa = alteradas.get(a++);
+                itensAlterados.add(tarefa);
+                cursor = CursorCodec.codificar(tarefa.getDataAtualizacao(), tarefa.getId());
+            } else {
+                TarefaRemovida removida = removidas.get(r++);
+                idsRemovidos.add(removida.getId());
+                cursor = CursorCodec.codificar(removida.getDataRemocao(), removida.getId());
+            }
+        }
+        boolean temMais = a < alteradas.size() || r < removidas.size();
+        return new AlteracoesDTO(itensAlterados, idsRemovidos, cursor, temMais, false);
     }
 
     @Transactional
     public TarefaResponseDTO criar(TarefaRequestDTO dto) {
         validarTarefa(dto);
 
-        Tarefa tarefa = new Tarefa();
-        tarefa.setTitulo(dto.getTitulo());
-        tarefa.setDescricao(dto.getDescricao());
-        tarefa.setStatus(dto.getStatus());
-        tarefa.setPrioridade(dto.getPrioridade());
-
-        Tarefa tarefaSalva = tarefaRepository.save(tarefa);
-        return TarefaResponseDTO.fromEntity(tarefaSalva);
+        Tarefa tarefaSalva = tarefaRepository.save(novaTarefa(dto));
+        return publicar(TarefaAlteradaEvent.Tipo.CRIADA, TarefaResponseDTO.fromEntity(tarefaSalva));
     }
 
     @Transactional
-    public TarefaResponseDTO atualizar(Long id, TarefaRequestDTO dto) {
+    public TarefaResponseDTO atualizar(Long id, TarefaRequestDTO dto, Set<Long> versoesEsperadas) {
         validarTarefa(dto);
 
         Tarefa tarefa = tarefaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
+        validarVersao(versoesEsperadas, tarefa.getVersao());
 
         if (tarefa.getStatus() == StatusTarefa.CONCLUIDA && dto.getStatus() != StatusTarefa.CONCLUIDA) {
             throw new BusinessException("Não é possível reabrir uma tarefa concluída");
         }
 
+        TarefaResponseDTO anterior = TarefaResponseDTO.fromEntity(tarefa);
         tarefa.setTitulo(dto.getTitulo());
         tarefa.setDescricao(dto.getDescricao());
         tarefa.setStatus(dto.getStatus());
         tarefa.setPrioridade(dto.getPrioridade());
 
-        Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
-        return TarefaResponseDTO.fromEntity(tarefaAtualizada);
+        Tarefa tarefaAtualizada = tarefaRepository.saveAndFlush(tarefa);
+        return publicar(TarefaAlteradaEvent.Tipo.ATUALIZADA, TarefaResponseDTO.fromEntity(tarefaAtualizada), anterior);
     }
 
     @Transactional
@@ -107,24 +370,288 @@ public class TarefaService {
         Tarefa tarefa = tarefaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
 
+        tarefaRemovidaRepository.registrarRemocao(List.of(id), LocalDateTime.now());
         tarefaRepository.delete(tarefa);
+        publicar(TarefaAlteradaEvent.Tipo.REMOVIDA, TarefaResponseDTO.fromEntity(tarefa));
     }
 
+    /**
+     * Aplica um único UPDATE condicionado ao status e à versão da tarefa guardada no cache; se ele altera a linha,
+     * o cache estava atual e fornece o estado anterior do evento e a resposta. Sem a tarefa no cache, ou se o
+     * UPDATE não altera nada, lê a projeção da tarefa (sem carregar a entidade), que decide entre 404, 412 e a
+     * recusa de reabrir, e repete o UPDATE com o status e a versão lidos.
+     */
     @Transactional
-    public TarefaResponseDTO atualizarStatus(Long id, StatusTarefa novoStatus) {
-        Tarefa tarefa = tarefaRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
+    public TarefaResponseDTO atualizarStatus(Long id, StatusTarefa novoStatus, Set<Long> versoesEsperadas) {
+        TarefaResponseDTO emCache = tarefaEmCache(id);
+        if (emCache != null && (versoesEsperadas == null || versoesEsperadas.contains(emCache.getVersao()))) {
+            TarefaResponseDTO atual = aplicarStatus(emCache, novoStatus);
+            if (atual != null) {
+                return atual;
+            }
+        }
 
-        if (tarefa.getStatus() == StatusTarefa.CONCLUIDA && novoStatus != StatusTarefa.CONCLUIDA) {
-            throw new BusinessException("Não é possível reabrir uma tarefa concluída");
+        for (int tentativa = 0; tentativa < TENTATIVAS_ATUALIZACAO_STATUS; tentativa++) {
+            TarefaResponseDTO anterior = tarefaRepository.buscarProjecaoPorIds(List.of(id), true).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Tarefa não encontrada com ID: " + id));
+            validarVersao(versoesEsperadas, anterior.getVersao());
+            if (anterior.getStatus() == StatusTarefa.CONCLUIDA && novoStatus != StatusTarefa.CONCLUIDA) {
+                throw new BusinessException("Não é possível reabrir uma tarefa concluída");
+            }
+            TarefaResponseDTO atual = aplicarStatus(anterior, novoStatus);
+            if (atual != null) {
+                return atual;
+            }
+        }
+        throw new ObjectOptimisticLockingFailureException(Tarefa.class, id);
+    }
+
+    /** Nulo se a tarefa não está mais no status e na versão de {@code anterior}. */
+    private TarefaResponseDTO aplicarStatus(TarefaResponseDTO anterior, StatusTarefa novoStatus) {
+        LocalDateTime agora = LocalDateTime.now();
+        if (tarefaRepository.atualizarStatusSeNaoConcluida(anterior.getId(), novoStatus, anterior.getStatus(),
+                anterior.getVersao(), agora) == 0) {
+            return null;
+        }
+        TarefaResponseDTO atual = new TarefaResponseDTO(anterior.getId(), anterior.getTitulo(),
+                anterior.getDescricao(), novoStatus, anterior.getPrioridade(), anterior.getDataCriacao(),
+                agora, anterior.getDataConclusao(), anterior.getVersao() + 1);
+        if (novoStatus == StatusTarefa.CONCLUIDA && atual.getDataConclusao() == null) {
+            atual.setDataConclusao(agora);
+        }
+        return publicar(TarefaAlteradaEvent.Tipo.ATUALIZADA, atual, anterior);
+    }
+
+    private TarefaResponseDTO tarefaEmCache(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.CACHE_TAREFAS);
+        return cache == null ? null : cache.get(id, TarefaResponseDTO.class);
+    }
+
+    @Transactional
+    public LoteResultadoDTO criarLote(List<TarefaRequestDTO> dtos) {
+        validarTamanhoLote(dtos);
+
+        List<ItemLoteResultadoDTO> resultados = new ArrayList<>(dtos.size());
+        Map<Integer, TarefaRequestDTO> validos = new LinkedHashMap<>();
+        for (int indice = 0; indice < dtos.size(); indice++) {
+            String erro = validarItemLote(dtos.get(indice));
+            if (erro == null) {
+                validos.put(indice, dtos.get(indice));
+            } else {
+                resultados.add(ItemLoteResultadoDTO.falha(indice, null, erro));
+            }
+        }
+
+        Map<Integer, Tarefa> pendentes = new LinkedHashMap<>();
+        for (Map.Entry<Integer, TarefaRequestDTO> item : validos.entrySet()) {
+            Tarefa tarefa = novaTarefa(item.getValue());
+            entityManager.persist(tarefa);
+            pendentes.put(item.getKey(), tarefa);
+            if (pendentes.size() == TAMANHO_BLOCO_LOTE) {
+                descarregarCriadas(pendentes, resultados);
+            }
+        }
+        descarregarCriadas(pendentes, resultados);
+
+        return LoteResultadoDTO.de(resultados);
+    }
+
+    @Transactional
+    public LoteResultadoDTO atualizarStatusLote(List<Long> ids, StatusTarefa novoStatus) {
+        validarTamanhoLote(ids);
+
+        List<ItemLoteResultadoDTO> resultados = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO_LOTE) {
+            List<Long> bloco = ids.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_LOTE, ids.size()));
+            Map<Long, Tarefa> tarefas = buscarPorIds(bloco);
+            List<Tarefa> alteradas = new ArrayList<>(bloco.size());
+            List<TarefaResponseDTO> anteriores = new ArrayList<>(bloco.size());
+
+            for (int i = 0; i < bloco.size(); i++) {
+                Long id = bloco.get(i);
+                Tarefa tarefa = tarefas.get(id);
+                if (tarefa == null) {
+                    resultados.add(ItemLoteResultadoDTO.falha(
+                            inicio + i, id, "Tarefa não encontrada com ID: " + id));
+                } else if (tarefa.getStatus() == StatusTarefa.CONCLUIDA && novoStatus != StatusTarefa.CONCLUIDA) {
+                    resultados.add(ItemLoteResultadoDTO.falha(
+                            inicio + i, id, "Não é possível reabrir uma tarefa concluída"));
+                } else {
+                    anteriores.add(TarefaResponseDTO.fromEntity(tarefa));
+                    tarefa.setStatus(novoStatus);
+                    alteradas.add(tarefa);
+                    resultados.add(ItemLoteResultadoDTO.sucesso(inicio + i, id));
+                }
+            }
+
+            entityManager.flush();
+            for (int i = 0; i < alteradas.size(); i++) {
+                publicar(TarefaAlteradaEvent.Tipo.ATUALIZADA,
+                        TarefaResponseDTO.fromEntity(alteradas.get(i)), anteriores.get(i));
+            }
+            entityManager.clear();
+        }
+
+        return LoteResultadoDTO.de(resultados);
+    }
+
+    @Transactional
+    public LoteResultadoDTO deletarLote(List<Long> ids) {
+        validarTamanhoLote(ids);
+
+        List<ItemLoteResultadoDTO> resultados = new ArrayList<>(ids.size());
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO_LOTE) {
+            List<Long> bloco = ids.subList(inicio, Math.min(inicio + TAMANHO_BLOCO_LOTE, ids.size()));
+            Map<Long, Tarefa> tarefas = buscarPorIds(bloco);
+
+            for (int i = 0; i < bloco.size(); i++) {
+                Long id = bloco.get(i);
+                if (tarefas.containsKey(id)) {
+                    resultados.add(ItemLoteResultadoDTO.sucesso(inicio + i, id));
+                } else {
+                    resultados.add(ItemLoteResultadoDTO.falha(
+                            inicio + i, id, "Tarefa não encontrada com ID: " + id));
+                }
+            }
+
+            if (!tarefas.isEmpty()) {
+                tarefaRemovidaRepository.registrarRemocao(tarefas.keySet(), LocalDateTime.now());
+                tarefaRepository.deleteAllByIdInBatch(tarefas.keySet());
+            }
+            tarefas.values().forEach(tarefa ->
+                    publicar(TarefaAlteradaEvent.Tipo.REMOVIDA, TarefaResponseDTO.fromEntity(tarefa)));
+            entityManager.clear();
+        }
+
+        return LoteResultadoDTO.de(resultados);
+    }
+
+    private int limitarTamanho(Integer tamanho) {
+        if (tamanho == null || tamanho < 1) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private Long idInicial(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        return CursorCodec.decodificarId(cursor);
+    }
+
+    private boolean incluirDescricao(CamposTarefa campos) {
+        return campos != CamposTarefa.RESUMO;
+    }
+
+    private PaginaResponseDTO<TarefaResponseDTO> montarPagina(List<TarefaResponseDTO> itens, int limite,
+                                                             Function<TarefaResponseDTO, String> cursorDe) {
+        String nextCursor = null;
+        if (itens.size() > limite) {
+            itens = itens.subList(0, limite);
+            nextCursor = cursorDe.apply(itens.get(limite - 1));
+        }
+        return new PaginaResponseDTO<>(itens, itens.size(), nextCursor);
+    }
+
+    /**
+     * Junta as tarefas ativas e arquivadas em ordem de ID. Uma tarefa arquivada entre as duas consultas
+     * aparece em ambas e entra uma única vez.
+     */
+    private static List<TarefaResponseDTO> combinarPorId(List<TarefaResponseDTO> ativas,
+                                                         List<TarefaResponseDTO> arquivadas, int limite) {
+        if (arquivadas.isEmpty()) {
+            return ativas;
+        }
+        Map<Long, TarefaResponseDTO> porId = new TreeMap<>();
+        ativas.forEach(tarefa -> porId.put(tarefa.getId(), tarefa));
+        arquivadas.forEach(tarefa -> porId.put(tarefa.getId(), tarefa));
+        return porId.values().stream().limit(limite).collect(Collectors.toList());
+    }
+
+    private static <E> boolean contem(Set<E> valores, E valor) {
+        return valores == null || valores.isEmpty() || valores.contains(valor);
+    }
+
+    private static boolean antes(LocalDateTime data, Long id, LocalDateTime outraData, Long outroId) {
+        int comparacao = data.compareTo(outraData);
+        return comparacao < 0 || (comparacao == 0 && id < outroId);
+    }
+
+    private Tarefa novaTarefa(TarefaRequestDTO dto) {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setTitulo(dto.getTitulo());
+        tarefa.setDescricao(dto.getDescricao());
+        tarefa.setStatus(dto.getStatus());
+        tarefa.setPrioridade(dto.getPrioridade());
+        return tarefa;
+    }
+
+    private Map<Long, Tarefa> buscarPorIds(Collection<Long> ids) {
+        return tarefaRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Tarefa::getId, Function.identity()));
+    }
+
+    private void descarregarCriadas(Map<Integer, Tarefa> pendentes, List<ItemLoteResultadoDTO> resultados) {
+        entityManager.flush();
+        for (Map.Entry<Integer, Tarefa> item : pendentes.entrySet()) {
+            TarefaResponseDTO tarefa = publicar(
+                    TarefaAlteradaEvent.Tipo.CRIADA, TarefaResponseDTO.fromEntity(item.getValue()));
+            resultados.add(ItemLoteResultadoDTO.sucesso(item.getKey(), tarefa.getId()));
         }
+        entityManager.clear();
+        pendentes.clear();
+    }
+
+    private void validarTamanhoLote(List<?> itens) {
+        if (itens == null || itens.isEmpty()) {
+            throw new BusinessException("O lote não pode estar vazio");
+        }
+        if (itens.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new BusinessException("O lote deve ter no máximo " + TAMANHO_MAXIMO_LOTE + " itens");
+        }
+    }
+
+    private String validarItemLote(TarefaRequestDTO dto) {
+        if (dto == null) {
+            return "Item do lote não informado";
+        }
+
+        Set<ConstraintViolation<TarefaRequestDTO>> violacoes = validator.validate(dto);
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                    .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        try {
+            validarTarefa(dto);
+            return null;
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
+    /** Sem versões esperadas (sem If-Match ou com {@code *}) qualquer versão atual é aceita. */
+    private void validarVersao(Set<Long> versoesEsperadas, Long versaoAtual) {
+        if (versoesEsperadas != null && !versoesEsperadas.contains(versaoAtual)) {
+            throw new PreconditionFailedException("A tarefa foi alterada por outra requisição");
+        }
+    }
+
+    private TarefaResponseDTO publicar(TarefaAlteradaEvent.Tipo tipo, TarefaResponseDTO tarefa) {
+        return publicar(tipo, tarefa, null);
+    }
 
-        tarefa.setStatus(novoStatus);
-        Tarefa tarefaAtualizada = tarefaRepository.save(tarefa);
-        return TarefaResponseDTO.fromEntity(tarefaAtualizada);
+    private TarefaResponseDTO publicar(TarefaAlteradaEvent.Tipo tipo, TarefaResponseDTO tarefa,
+                                       TarefaResponseDTO anterior) {
+        eventPublisher.publishEvent(new TarefaAlteradaEvent(tipo, tarefa, anterior));
+        return tarefa;
     }
 
-    private void validarTarefa(TarefaRequestDTO dto) {
+    void validarTarefa(TarefaRequestDTO dto) {
         if (dto.getTitulo() == null || dto.getTitulo().trim().isEmpty()) {
             throw new BusinessException("O título da tarefa é obrigatório");
         }
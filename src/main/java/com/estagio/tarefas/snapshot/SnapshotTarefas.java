@@ -0,0 +1,434 @@
+package com.estagio.tarefas.snapshot;
+
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.PaginaResponseDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.service.CursorCodec;
+import com.estagio.tarefas.service.TarefaService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Cópia em memória das tarefas ativas em formato colunar, usada no modo de leitura por snapshot para servir
+ * as listagens por status, por prioridade e ordenada sem consultar o banco. Cada tarefa ocupa uma posição fixa
+ * em arrays de primitivos (datas em microssegundos desde a época, status e prioridade em um byte); título e
+ * descrição ficam em {@link TextosForaDoHeap}. Os índices de posições são mantidos ordenados: por ID, por ID
+ * dentro de cada status e de cada prioridade, e por (rank da prioridade, data de criação, ID), de modo que cada
+ * página é uma busca binária seguida de uma leitura contígua. O snapshot é carregado na inicialização e
+ * atualizado após o commit de cada alteração por {@link SnapshotTarefasListener}.
+ */
+@Component
+@ConditionalOnProperty(name = "tarefas.snapshot.habilitado", havingValue = "true")
+public class SnapshotTarefas {
+
+    private static final long SEM_DATA = Long.MIN_VALUE;
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final StatusTarefa[] STATUS = StatusTarefa.values();
+    private static final Prioridade[] PRIORIDADES = Prioridade.values();
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private final TextosForaDoHeap textos = new TextosForaDoHeap();
+
+    private long[] ids = new long[CAPACIDADE_INICIAL];
+    private long[] datasCriacao = new long[CAPACIDADE_INICIAL];
+    private long[] datasAtualizacao = new long[CAPACIDADE_INICIAL];
+    private long[] datasConclusao = new long[CAPACIDADE_INICIAL];
+    private long[] versoes = new long[CAPACIDADE_INICIAL];
+    private long[] refsTextos = new long[CAPACIDADE_INICIAL];
+    private byte[] status = new byte[CAPACIDADE_INICIAL];
+    private byte[] prioridades = new byte[CAPACIDADE_INICIAL];
+
+    /** Posições em ordem de ID e em ordem de (rank, data de criação, ID); ambos com {@code quantidade} itens. */
+    private int[] porId = new int[CAPACIDADE_INICIAL];
+    private int[] porPrioridade = new int[CAPACIDADE_INICIAL];
+    private int quantidade;
+
+    private final IndicePorId[] porStatusEId = new IndicePorId[STATUS.length];
+    private final IndicePorId[] porPrioridadeEId = new IndicePorId[PRIORIDADES.length];
+
+    /**
+     * IDs removidos ou arquivados. Os IDs vêm de uma sequência e nunca voltam, então qualquer inclusão posterior
+     * de um deles é um evento atrasado (ou um lote da carga lido antes da remoção) e é ignorada.
+     */
+    private final Roaring64Bitmap removidas = new Roaring64Bitmap();
+
+    private int[] posicoesLivres = new int[16];
+    private int quantidadeLivres;
+    private int proximaPosicao;
+
+    private volatile boolean pronto;
+
+    @Autowired
+    public SnapshotTarefas(MeterRegistry meterRegistry) {
+        this();
+        Gauge.builder("tarefas.snapshot.tarefas", this, SnapshotTarefas::quantidade)
+                .description("Tarefas no snapshot de leitura")
+                .register(meterRegistry);
+        Gauge.builder("tarefas.snapshot.textos.bytes", this, SnapshotTarefas::bytesTextos)
+                .description("Capacidade do buffer fora do heap com títulos e descrições")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    SnapshotTarefas() {
+        Arrays.setAll(porStatusEId, i -> new IndicePorId());
+        Arrays.setAll(porPrioridadeEId, i -> new IndicePorId());
+    }
+
+    /** Indica se a carga inicial terminou; até lá as leituras devem ir ao banco. */
+    public boolean pronto() {
+        return pronto;
+    }
+
+    public void concluirCarga() {
+        pronto = true;
+    }
+
+    /** Inclui ou substitui as tarefas; versões anteriores à do snapshot e tarefas já removidas são ignoradas. */
+    public void atualizar(List<TarefaResponseDTO> tarefas) {
+        trava.writeLock().lock();
+        try {
+            tarefas.forEach(this::atualizarSemTrava);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public void remover(long id) {
+        trava.writeLock().lock();
+        try {
+            removidas.addLong(id);
+            removerSemTrava(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    public int quantidade() {
+        trava.readLock().lock();
+        try {
+            return quantidade;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorStatus(StatusTarefa filtro, String cursor, Integer tamanho,
+                                                                CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        List<TarefaResponseDTO> tarefas = listarPorId(porStatusEId[filtro.ordinal()], idInicial(cursor), limite + 1,
+                incluirDescricao(campos));
+        return montarPagina(tarefas, limite, t -> CursorCodec.codificar(t.getId()));
+    }
+
+    public PaginaResponseDTO<TarefaResponseDTO> buscarPorPrioridade(Prioridade filtro, String cursor,
+                                                                    Integer tamanho, CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        List<TarefaResponseDTO> tarefas = listarPorId(porPrioridadeEId[filtro.ordinal()], idInicial(cursor),
+                limite + 1, incluirDescricao(campos));
+        return montarPagina(tarefas, limite, t -> CursorCodec.codificar(t.getId()));
+    }
+
+    public PaginaResponseDTO<TarefaResponseDTO> listarOrdenadas(String cursor, Integer tamanho, CamposTarefa campos) {
+        int limite = limitarTamanho(tamanho);
+        int rank = Integer.MIN_VALUE;
+        long dataCriacao = Long.MIN_VALUE;
+        long idApos = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = CursorCodec.decodificar(cursor, 3);
+            try {
+                rank = Integer.parseInt(partes[0]);
+                dataCriacao = paraMicros(LocalDateTime.parse(partes[1]));
+                idApos = Long.parseLong(partes[2]);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+
+        boolean descricao = incluirDescricao(campos);
+        List<TarefaResponseDTO> tarefas = new ArrayList<>(limite + 1);
+        trava.readLock().lock();
+        try {
+            int inicio = posicaoOrdenadaApos(rank, dataCriacao, idApos, quantidade);
+            for (int i = inicio; i < quantidade && tarefas.size() <= limite; i++) {
+                tarefas.add(paraDto(porPrioridade[i], descricao));
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        return montarPagina(tarefas, limite,
+                t -> CursorCodec.codificar(t.getPrioridade().getRank(), t.getDataCriacao(), t.getId()));
+    }
+
+    private List<TarefaResponseDTO> listarPorId(IndicePorId indice, long idApos, int limite, boolean descricao) {
+        List<TarefaResponseDTO> tarefas = new ArrayList<>(limite);
+        trava.readLock().lock();
+        try {
+            for (int i = indice.inicioApos(idApos); i < indice.quantidade && tarefas.size() < limite; i++) {
+                tarefas.add(paraDto(indice.posicoes[i], descricao));
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+        return tarefas;
+    }
+
+    private void atualizarSemTrava(TarefaResponseDTO tarefa) {
+        long id = tarefa.getId();
+        long versao = tarefa.getVersao() == null ? 0 : tarefa.getVersao();
+        if (removidas.contains(id)) {
+            return;
+        }
+        int indice = buscarId(id);
+        int posicao;
+        if (indice >= 0) {
+            posicao = porId[indice];
+            if (versao < versoes[posicao]) {
+                return;
+            }
+            removerDaOrdenacao(posicao);
+            removerDosFiltros(posicao);
+            liberarTextos(posicao);
+        } else {
+            posicao = alocarPosicao();
+            garantirCapacidadeIndices();
+            int insercao = -indice - 1;
+            System.arraycopy(porId, insercao, porId, insercao + 1, quantidade - insercao);
+            porId[insercao] = posicao;
+            quantidade++;
+            ids[posicao] = id;
+        }
+
+        datasCriacao[posicao] = paraMicros(tarefa.getDataCriacao());
+        datasAtualizacao[posicao] = paraMicros(tarefa.getDataAtualizacao());
+        datasConclusao[posicao] = paraMicros(tarefa.getDataConclusao());
+        versoes[posicao] = versao;
+        status[posicao] = (byte) tarefa.getStatus().ordinal();
+        prioridades[posicao] = (byte) tarefa.getPrioridade().ordinal();
+        refsTextos[posicao] = textos.gravar(tarefa.getTitulo(), tarefa.getDescricao(), refsTextos, porId, quantidade);
+        inserirNaOrdenacao(posicao);
+        porStatusEId[status[posicao]].inserir(posicao);
+        porPrioridadeEId[prioridades[posicao]].inserir(posicao);
+    }
+
+    private void removerSemTrava(long id) {
+        int indice = buscarId(id);
+        if (indice < 0) {
+            return;
+        }
+        int posicao = porId[indice];
+        removerDaOrdenacao(posicao);
+        removerDosFiltros(posicao);
+        System.arraycopy(porId, indice + 1, porId, indice, quantidade - indice - 1);
+        quantidade--;
+        liberarTextos(posicao);
+        if (quantidadeLivres == posicoesLivres.length) {
+            posicoesLivres = Arrays.copyOf(posicoesLivres, posicoesLivres.length * 2);
+        }
+        posicoesLivres[quantidadeLivres++] = posicao;
+    }
+
+    private void removerDosFiltros(int posicao) {
+        porStatusEId[status[posicao]].remover(ids[posicao]);
+        porPrioridadeEId[prioridades[posicao]].remover(ids[posicao]);
+    }
+
+    /** Zera a referência para que uma reorganização do buffer não copie os textos liberados. */
+    private void liberarTextos(int posicao) {
+        textos.liberar(refsTextos[posicao]);
+        refsTextos[posicao] = 0;
+    }
+
+    /** Índice em {@code porId} da tarefa, ou {@code -(ponto de inserção) - 1} se não estiver no snapshot. */
+    private int buscarId(long id) {
+        return buscarId(porId, quantidade, id);
+    }
+
+    private int buscarId(int[] posicoes, int ocupados, long id) {
+        int inicio = 0;
+        int fim = ocupados - 1;
+        while (inicio <= fim) {
+            int meio = (inicio + fim) >>> 1;
+            long atual = ids[posicoes[meio]];
+            if (atual < id) {
+                inicio = meio + 1;
+            } else if (atual > id) {
+                fim = meio - 1;
+            } else {
+                return meio;
+            }
+        }
+        return -(inicio + 1);
+    }
+
+    /** Primeiro índice entre os {@code ocupados} de {@code porPrioridade} com chave maior que (rank, dataCriacao, id). */
+    private int posicaoOrdenadaApos(int rank, long dataCriacao, long id, int ocupados) {
+        int inicio = 0;
+        int fim = ocupados;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (compararOrdenacao(porPrioridade[meio], rank, dataCriacao, id) <= 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /** Chamado com a posição já contada em {@code quantidade}, mas ainda fora de {@code porPrioridade}. */
+    private void inserirNaOrdenacao(int posicao) {
+        int ocupados = quantidade - 1;
+        int indice = posicaoOrdenadaApos(rank(posicao), datasCriacao[posicao], ids[posicao], ocupados);
+        System.arraycopy(porPrioridade, indice, porPrioridade, indice + 1, ocupados - indice);
+        porPrioridade[indice] = posicao;
+    }
+
+    private void removerDaOrdenacao(int posicao) {
+        int indice = posicaoOrdenadaApos(rank(posicao), datasCriacao[posicao], ids[posicao], quantidade) - 1;
+        System.arraycopy(porPrioridade, indice + 1, porPrioridade, indice, quantidade - indice - 1);
+    }
+
+    private int compararOrdenacao(int posicao, int rank, long dataCriacao, long id) {
+        int comparacao = Integer.compare(rank(posicao), rank);
+        if (comparacao == 0) {
+            comparacao = Long.compare(datasCriacao[posicao], dataCriacao);
+        }
+        return comparacao != 0 ? comparacao : Long.compare(ids[posicao], id);
+    }
+
+    private int rank(int posicao) {
+        return PRIORIDADES[prioridades[posicao]].getRank();
+    }
+
+    private int alocarPosicao() {
+        if (quantidadeLivres > 0) {
+            return posicoesLivres[--quantidadeLivres];
+        }
+        if (proximaPosicao == ids.length) {
+            int capacidade = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacidade);
+            datasCriacao = Arrays.copyOf(datasCriacao, capacidade);
+            datasAtualizacao = Arrays.copyOf(datasAtualizacao, capacidade);
+            datasConclusao = Arrays.copyOf(datasConclusao, capacidade);
+            versoes = Arrays.copyOf(versoes, capacidade);
+            refsTextos = Arrays.copyOf(refsTextos, capacidade);
+            status = Arrays.copyOf(status, capacidade);
+            prioridades = Arrays.copyOf(prioridades, capacidade);
+        }
+        return proximaPosicao++;
+    }
+
+    private void garantirCapacidadeIndices() {
+        if (quantidade == porId.length) {
+            porId = Arrays.copyOf(porId, porId.length * 2);
+            porPrioridade = Arrays.copyOf(porPrioridade, porPrioridade.length * 2);
+        }
+    }
+
+    private TarefaResponseDTO paraDto(int posicao, boolean incluirDescricao) {
+        long ref = refsTextos[posicao];
+        return new TarefaResponseDTO(ids[posicao], textos.titulo(ref),
+                incluirDescricao ? textos.descricao(ref) : null,
+                STATUS[status[posicao]], PRIORIDADES[prioridades[posicao]],
+                paraData(datasCriacao[posicao]), paraData(datasAtualizacao[posicao]),
+                paraData(datasConclusao[posicao]), versoes[posicao]);
+    }
+
+    private double bytesTextos() {
+        trava.readLock().lock();
+        try {
+            return textos.capacidade();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /** Microssegundos, a precisão das colunas TIMESTAMP; UTC é só a codificação, sem conversão de fuso. */
+    private static long paraMicros(LocalDateTime data) {
+        if (data == null) {
+            return SEM_DATA;
+        }
+        return data.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + data.getNano() / 1000;
+    }
+
+    private static LocalDateTime paraData(long micros) {
+        if (micros == SEM_DATA) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+    }
+
+    private static long idInicial(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        return CursorCodec.decodificarId(cursor);
+    }
+
+    private static int limitarTamanho(Integer tamanho) {
+        if (tamanho == null || tamanho < 1) {
+            return TarefaService.TAMANHO_PAGINA_PADRAO;
+        }
+        return Math.min(tamanho, TarefaService.TAMANHO_PAGINA_MAXIMO);
+    }
+
+    private static boolean incluirDescricao(CamposTarefa campos) {
+        return campos != CamposTarefa.RESUMO;
+    }
+
+    private static PaginaResponseDTO<TarefaResponseDTO> montarPagina(
+            List<TarefaResponseDTO> itens, int limite, Function<TarefaResponseDTO, String> cursorDe) {
+        String nextCursor = null;
+        if (itens.size() > limite) {
+            itens = itens.subList(0, limite);
+            nextCursor = cursorDe.apply(itens.get(limite - 1));
+        }
+        return new PaginaResponseDTO<>(itens, itens.size(), nextCursor);
+    }
+
+    /** Posições das tarefas de um status ou de uma prioridade, em ordem de ID. */
+    private final class IndicePorId {
+
+        private int[] posicoes = new int[CAPACIDADE_INICIAL];
+        private int quantidade;
+
+        void inserir(int posicao) {
+            int insercao = -buscarId(posicoes, quantidade, ids[posicao]) - 1;
+            if (quantidade == posicoes.length) {
+                posicoes = Arrays.copyOf(posicoes, posicoes.length * 2);
+            }
+            System.arraycopy(posicoes, insercao, posicoes, insercao + 1, quantidade - insercao);
+            posicoes[insercao] = posicao;
+            quantidade++;
+        }
+
+        void remover(long id) {
+            int indice = buscarId(posicoes, quantidade, id);
+            System.arraycopy(posicoes, indice + 1, posicoes, indice, quantidade - indice - 1);
+            quantidade--;
+        }
+
+        int inicioApos(long idApos) {
+            int indice = buscarId(posicoes, quantidade, idApos);
+            return indice >= 0 ? indice + 1 : -indice - 1;
+        }
+    }
+}
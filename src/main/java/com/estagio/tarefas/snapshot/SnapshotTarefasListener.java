@@ -0,0 +1,52 @@
+package com.estagio.tarefas.snapshot;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tarefas.snapshot.habilitado", havingValue = "true")
+public class SnapshotTarefasListener {
+
+    private static final int TAMANHO_LOTE_CARGA = 1000;
+
+    private final SnapshotTarefas snapshot;
+    private final TarefaRepository tarefaRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long total = 0;
+        Long ultimoId = 0L;
+        List<TarefaResponseDTO> lote;
+        do {
+            lote = tarefaRepository.listarProjecao(ultimoId, TAMANHO_LOTE_CARGA, true);
+            if (!lote.isEmpty()) {
+                snapshot.atualizar(lote);
+                ultimoId = lote.get(lote.size() - 1).getId();
+                total += lote.size();
+            }
+        } while (lote.size() == TAMANHO_LOTE_CARGA);
+
+        snapshot.concluirCarga();
+        log.info("Snapshot de leitura carregado com {} tarefas", total);
+    }
+
+    @TransactionalEventListener
+    public void aoAlterarTarefa(TarefaAlteradaEvent evento) {
+        switch (evento.getTipo()) {
+            case REMOVIDA, ARQUIVADA -> snapshot.remover(evento.getTarefa().getId());
+            case CRIADA, ATUALIZADA -> snapshot.atualizar(List.of(evento.getTarefa()));
+        }
+    }
+}
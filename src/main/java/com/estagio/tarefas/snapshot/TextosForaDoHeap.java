@@ -0,0 +1,103 @@
+package com.estagio.tarefas.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Título e descrição das tarefas do snapshot em UTF-8, lado a lado em um buffer direto (fora do heap).
+ * Cada tarefa é identificada por uma referência {@code long} com o deslocamento (32 bits) e os tamanhos do
+ * título e da descrição (16 bits cada). Textos substituídos viram espaço livre, recuperado quando o buffer
+ * enche e é recriado apenas com os textos em uso. Não é thread-safe: o {@link SnapshotTarefas} sincroniza
+ * as escritas; as leituras usam apenas acessos absolutos ao buffer.
+ */
+final class TextosForaDoHeap {
+
+    private static final int SEM_DESCRICAO = 0xFFFF;
+    private static final int CAPACIDADE_MINIMA = 64 * 1024;
+
+    private ByteBuffer dados = ByteBuffer.allocateDirect(CAPACIDADE_MINIMA);
+    private int usados;
+    private long livres;
+
+    /** Grava os textos; se o buffer precisar ser recriado, as referências em {@code refs} são atualizadas. */
+    long gravar(String titulo, String descricao, long[] refs, int[] posicoes, int quantidade) {
+        byte[] bytesTitulo = titulo.getBytes(StandardCharsets.UTF_8);
+        byte[] bytesDescricao = descricao == null ? new byte[0] : descricao.getBytes(StandardCharsets.UTF_8);
+        int tamanho = bytesTitulo.length + bytesDescricao.length;
+        if (usados + tamanho > dados.capacity()) {
+            reorganizar(refs, posicoes, quantidade, tamanho);
+        }
+        int deslocamento = usados;
+        dados.put(deslocamento, bytesTitulo);
+        dados.put(deslocamento + bytesTitulo.length, bytesDescricao);
+        usados += tamanho;
+        return ((long) deslocamento << 32) | ((long) bytesTitulo.length << 16)
+                | (descricao == null ? SEM_DESCRICAO : bytesDescricao.length);
+    }
+
+    void liberar(long ref) {
+        livres += tamanhoTitulo(ref) + tamanhoDescricao(ref);
+    }
+
+    String titulo(long ref) {
+        return ler(deslocamento(ref), tamanhoTitulo(ref));
+    }
+
+    String descricao(long ref) {
+        if ((ref & 0xFFFF) == SEM_DESCRICAO) {
+            return null;
+        }
+        return ler(deslocamento(ref) + tamanhoTitulo(ref), tamanhoDescricao(ref));
+    }
+
+    int capacidade() {
+        return dados.capacity();
+    }
+
+    /**
+     * Copia para um novo buffer apenas os textos das posições em uso, com folga para crescer. Buffers diretos
+     * não podem ser ampliados no lugar; o antigo é liberado pelo GC.
+     */
+    private void reorganizar(long[] refs, int[] posicoes, int quantidade, int adicional) {
+        long emUso = usados - livres;
+        long capacidade = Math.max(CAPACIDADE_MINIMA, (emUso + adicional) * 3 / 2);
+        if (capacidade > Integer.MAX_VALUE) {
+            capacidade = Integer.MAX_VALUE;
+        }
+        if (emUso + adicional > capacidade) {
+            throw new IllegalStateException("Textos do snapshot excedem o tamanho máximo do buffer");
+        }
+        ByteBuffer novo = ByteBuffer.allocateDirect((int) capacidade);
+        int destino = 0;
+        for (int i = 0; i < quantidade; i++) {
+            int posicao = posicoes[i];
+            long ref = refs[posicao];
+            int tamanho = tamanhoTitulo(ref) + tamanhoDescricao(ref);
+            novo.put(destino, dados, deslocamento(ref), tamanho);
+            refs[posicao] = ((long) destino << 32) | (ref & 0xFFFFFFFFL);
+            destino += tamanho;
+        }
+        dados = novo;
+        usados = destino;
+        livres = 0;
+    }
+
+    private String ler(int deslocamento, int tamanho) {
+        byte[] bytes = new byte[tamanho];
+        dados.get(deslocamento, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int deslocamento(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int tamanhoTitulo(long ref) {
+        return (int) ((ref >>> 16) & 0xFFFF);
+    }
+
+    private static int tamanhoDescricao(long ref) {
+        int tamanho = (int) (ref & 0xFFFF);
+        return tamanho == SEM_DESCRICAO ? 0 : tamanho;
+    }
+}
@@ -1,14 +0,0 @@
-INSERT INTO tarefas (titulo, descricao, status, prioridade, data_criacao, data_atualizacao) 
-VALUES ('Estudar Spring Boot', 'Revisar conceitos de injeção de dependência e annotations', 'PENDENTE', 'ALTA', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO tarefas (titulo, descricao, status, prioridade, data_criacao, data_atualizacao) 
-VALUES ('Implementar testes unitários', 'Criar testes para a camada de serviço', 'EM_ANDAMENTO', 'MEDIA', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO tarefas (titulo, descricao, status, prioridade, data_criacao, data_atualizacao, data_conclusao) 
-VALUES ('Configurar banco de dados', 'Setup inicial do H2 Database', 'CONCLUIDA', 'ALTA', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO tarefas (titulo, descricao, status, prioridade, data_criacao, data_atualizacao) 
-VALUES ('Documentar API', 'Adicionar Swagger/OpenAPI', 'PENDENTE', 'BAIXA', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO tarefas (titulo, descricao, status, prioridade, data_criacao, data_atualizacao) 
-VALUES ('Code Review', 'Revisar código do projeto antes da entrega', 'PENDENTE', 'URGENTE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
@@ -0,0 +1,19 @@
+INSERT INTO tarefas (titulo, descricao, status, prioridade, prioridade_rank, data_criacao, data_atualizacao)
+SELECT 'Estudar Spring Boot', 'Revisar conceitos de injeção de dependência e annotations', 'PENDENTE', 'ALTA', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM tarefas WHERE titulo = 'Estudar Spring Boot');
+
+INSERT INTO tarefas (titulo, descricao, status, prioridade, prioridade_rank, data_criacao, data_atualizacao)
+SELECT 'Implementar testes unitários', 'Criar testes para a camada de serviço', 'EM_ANDAMENTO', 'MEDIA', 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM tarefas WHERE titulo = 'Implementar testes unitários');
+
+INSERT INTO tarefas (titulo, descricao, status, prioridade, prioridade_rank, data_criacao, data_atualizacao, data_conclusao)
+SELECT 'Configurar banco de dados', 'Setup inicial do H2 Database', 'CONCLUIDA', 'ALTA', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM tarefas WHERE titulo = 'Configurar banco de dados');
+
+INSERT INTO tarefas (titulo, descricao, status, prioridade, prioridade_rank, data_criacao, data_atualizacao)
+SELECT 'Documentar API', 'Adicionar Swagger/OpenAPI', 'PENDENTE', 'BAIXA', 4, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM tarefas WHERE titulo = 'Documentar API');
+
+INSERT INTO tarefas (titulo, descricao, status, prioridade, prioridade_rank, data_criacao, data_atualizacao)
+SELECT 'Code Review', 'Revisar código do projeto antes da entrega', 'PENDENTE', 'URGENTE', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM tarefas WHERE titulo = 'Code Review');
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS tarefas (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    titulo           VARCHAR(100) NOT NULL,
+    descricao        VARCHAR(500),
+    status           VARCHAR(20)  NOT NULL,
+    prioridade       VARCHAR(20)  NOT NULL,
+    data_criacao     TIMESTAMP    NOT NULL,
+    data_atualizacao TIMESTAMP,
+    data_conclusao   TIMESTAMP
+);
@@ -0,0 +1,14 @@
+ALTER TABLE tarefas ADD COLUMN IF NOT EXISTS prioridade_rank INTEGER;
+
+UPDATE tarefas
+SET prioridade_rank = CASE prioridade
+                          WHEN 'URGENTE' THEN 1
+                          WHEN 'ALTA' THEN 2
+                          WHEN 'MEDIA' THEN 3
+                          ELSE 4
+                      END
+WHERE prioridade_rank IS NULL;
+
+ALTER TABLE tarefas ALTER COLUMN prioridade_rank SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tarefas_prioridade_rank ON tarefas (prioridade_rank, data_criacao, id);
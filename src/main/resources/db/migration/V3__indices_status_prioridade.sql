@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_tarefas_status ON tarefas (status, id);
+CREATE INDEX IF NOT EXISTS idx_tarefas_prioridade ON tarefas (prioridade, id);
+CREATE INDEX IF NOT EXISTS idx_tarefas_status_prioridade ON tarefas (status, prioridade, data_criacao);
+CREATE INDEX IF NOT EXISTS idx_tarefas_data_conclusao ON tarefas (data_conclusao);
@@ -0,0 +1 @@
+ALTER TABLE tarefas ADD COLUMN IF NOT EXISTS versao BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,10 @@
+UPDATE tarefas SET data_atualizacao = data_criacao WHERE data_atualizacao IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tarefas_data_atualizacao ON tarefas (data_atualizacao, id);
+
+CREATE TABLE IF NOT EXISTS tarefas_removidas (
+    id           BIGINT    PRIMARY KEY,
+    data_remocao TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tarefas_removidas_data_remocao ON tarefas_removidas (data_remocao, id);
@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS tarefas_arquivadas (
+    id                BIGINT       PRIMARY KEY,
+    titulo            VARCHAR(100) NOT NULL,
+    descricao         VARCHAR(500),
+    status            VARCHAR(20)  NOT NULL,
+    prioridade        VARCHAR(20)  NOT NULL,
+    prioridade_rank   INTEGER      NOT NULL,
+    data_criacao      TIMESTAMP    NOT NULL,
+    data_atualizacao  TIMESTAMP,
+    data_conclusao    TIMESTAMP,
+    versao            BIGINT       NOT NULL,
+    data_arquivamento TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tarefas_arquivadas_status ON tarefas_arquivadas (status, id);
+CREATE INDEX IF NOT EXISTS idx_tarefas_arquivadas_prioridade ON tarefas_arquivadas (prioridade, id);
+CREATE INDEX IF NOT EXISTS idx_tarefas_arquivadas_data_arquivamento ON tarefas_arquivadas (data_arquivamento, id);
@@ -0,0 +1,53 @@
+package com.estagio.tarefas.config;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTarefasTest {
+
+    private CacheTarefas cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CacheTarefas(CacheConfig.CACHE_TAREFAS, Caffeine.newBuilder().build());
+    }
+
+    @Test
+    @DisplayName("Deve manter a versão mais nova quando uma leitura antiga é gravada depois")
+    void deveRecusarVersaoAntiga() {
+        cache.put(1L, tarefa(1L, StatusTarefa.CONCLUIDA, 2L));
+        cache.put(1L, tarefa(1L, StatusTarefa.PENDENTE, 1L));
+
+        assertEquals(StatusTarefa.CONCLUIDA, cache.get(1L, TarefaResponseDTO.class).getStatus());
+
+        cache.put(1L, tarefa(1L, StatusTarefa.CONCLUIDA, 3L));
+        assertEquals(3L, cache.get(1L, TarefaResponseDTO.class).getVersao());
+    }
+
+    @Test
+    @DisplayName("Não deve trazer de volta uma tarefa removida")
+    void naoDeveGuardarTarefaRemovida() {
+        cache.put(1L, tarefa(1L, StatusTarefa.PENDENTE, 0L));
+        cache.marcarRemovida(1L);
+        cache.put(1L, tarefa(1L, StatusTarefa.PENDENTE, 0L));
+
+        assertNull(cache.get(1L));
+        assertNull(cache.putIfAbsent(1L, tarefa(1L, StatusTarefa.PENDENTE, 0L)));
+        assertNull(cache.get(1L));
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, StatusTarefa status, Long versao) {
+        LocalDateTime criacao = LocalDateTime.of(2026, 3, 1, 10, 0);
+        return new TarefaResponseDTO(id, "Tarefa " + id, null, status, Prioridade.MEDIA, criacao, criacao, null,
+                versao);
+    }
+}
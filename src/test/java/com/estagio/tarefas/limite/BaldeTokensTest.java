@@ -0,0 +1,61 @@
+package com.estagio.tarefas.limite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaldeTokensTest {
+
+    private static final long SEGUNDO = 1_000_000_000L;
+
+    @Test
+    @DisplayName("Deve aceitar a rajada e informar a espera até o próximo token")
+    void deveAceitarRajadaEInformarEspera() {
+        long inicio = 10 * SEGUNDO;
+        BaldeTokens balde = new BaldeTokens(2, 3, inicio);
+
+        assertEquals(0, balde.consumir(inicio));
+        assertEquals(0, balde.consumir(inicio));
+        assertEquals(0, balde.consumir(inicio));
+        assertEquals(SEGUNDO / 2, balde.consumir(inicio));
+        assertEquals(SEGUNDO / 4, balde.consumir(inicio + SEGUNDO / 4));
+        assertEquals(0, balde.consumir(inicio + SEGUNDO / 2));
+    }
+
+    @Test
+    @DisplayName("Não deve acumular mais tokens que a rajada depois de parado")
+    void naoDeveAcumularAlemDaRajada() {
+        BaldeTokens balde = new BaldeTokens(10, 2, 0);
+
+        long depois = 60 * SEGUNDO;
+        assertEquals(0, balde.consumir(depois));
+        assertEquals(0, balde.consumir(depois));
+        assertTrue(balde.consumir(depois) > 0);
+    }
+
+    @Test
+    @DisplayName("Threads concorrentes não devem consumir mais tokens que a rajada")
+    void deveSerSeguroEntreThreads() throws Exception {
+        BaldeTokens balde = new BaldeTokens(0.001, 1000, 0);
+        AtomicInteger aceitas = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        if (balde.consumir(SEGUNDO) == 0) {
+                            aceitas.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        assertEquals(1000, aceitas.get());
+    }
+}
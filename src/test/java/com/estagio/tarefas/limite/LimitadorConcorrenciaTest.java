@@ -0,0 +1,70 @@
+package com.estagio.tarefas.limite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitadorConcorrenciaTest {
+
+    private static final long ALVO = Duration.ofMillis(100).toNanos();
+
+    @Test
+    @DisplayName("Deve recusar requisições acima do limite")
+    void deveRecusarAcimaDoLimite() {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(Duration.ofMillis(100), 2, 1, 10);
+
+        assertTrue(limitador.adquirir());
+        assertTrue(limitador.adquirir());
+        assertFalse(limitador.adquirir());
+
+        limitador.liberar(ALVO / 2);
+        assertTrue(limitador.adquirir());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite com latência acima do alvo, uma vez por período")
+    void deveReduzirComLatenciaAlta() {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(Duration.ofMillis(100), 20, 2, 100);
+        long agora = System.nanoTime();
+
+        for (int i = 0; i < 5; i++) {
+            limitador.adquirir();
+        }
+        limitador.liberar(ALVO * 3, agora);
+        limitador.liberar(ALVO * 3, agora + ALVO / 2);
+        assertEquals(18, limitador.limite());
+
+        limitador.liberar(ALVO * 3, agora + ALVO);
+        assertEquals(16, limitador.limite());
+
+        for (int i = 0; i < 100; i++) {
+            limitador.adquirir();
+            limitador.liberar(ALVO * 3, agora + ALVO * (i + 2));
+        }
+        assertEquals(2, limitador.limite());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite aos poucos quando ocupado e abaixo da latência alvo")
+    void deveAumentarComLatenciaBaixa() {
+        LimitadorConcorrencia limitador = new LimitadorConcorrencia(Duration.ofMillis(100), 4, 1, 5);
+
+        for (int i = 0; i < 4; i++) {
+            limitador.adquirir();
+        }
+        for (int i = 0; i < 4; i++) {
+            limitador.liberar(ALVO / 2);
+            limitador.adquirir();
+        }
+        assertEquals(4, limitador.limite());
+
+        for (int i = 0; i < 100; i++) {
+            limitador.liberar(ALVO / 2);
+            limitador.adquirir();
+        }
+        assertEquals(5, limitador.limite());
+    }
+}
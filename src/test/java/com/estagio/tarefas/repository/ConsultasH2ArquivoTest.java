@@ -0,0 +1,20 @@
+package com.estagio.tarefas.repository;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+
+@ActiveProfiles("prod")
+class ConsultasH2ArquivoTest extends ConsultasPorPerfilTest {
+
+    @TempDir
+    static Path diretorio;
+
+    @DynamicPropertySource
+    static void configurar(DynamicPropertyRegistry registro) {
+        registro.add("tarefas.dados", diretorio::toString);
+    }
+}
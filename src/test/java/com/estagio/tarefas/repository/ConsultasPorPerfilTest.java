@@ -0,0 +1,205 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.model.TarefaRemovida;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas do repositório executadas contra o banco de cada perfil de produção. As subclasses escolhem o
+ * perfil; os resultados esperados são os mesmos para todos.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class ConsultasPorPerfilTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private TarefaRemovidaRepository tarefaRemovidaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        tarefaRepository.deleteAllInBatch();
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Tarefa tarefa = new Tarefa();
+            tarefa.setTitulo("Tarefa " + i);
+            tarefa.setDescricao("Descrição " + i);
+            tarefa.setStatus(i % 3 == 0 ? StatusTarefa.CONCLUIDA : StatusTarefa.PENDENTE);
+            tarefa.setPrioridade(Prioridade.values()[i % Prioridade.values().length]);
+            tarefas.add(tarefa);
+        }
+        ids = tarefaRepository.saveAllAndFlush(tarefas).stream().map(Tarefa::getId).toList();
+
+        for (int i = 0; i < ids.size(); i++) {
+            LocalDateTime criacao = BASE.plusMinutes(i % 4);
+            jdbcTemplate.update("UPDATE tarefas SET data_criacao = ?, data_atualizacao = ?, data_conclusao = ? "
+                            + "WHERE id = ?", criacao, BASE.plusHours(1).plusSeconds(ids.size() - i),
+                    i % 3 == 0 ? criacao.plusSeconds(90) : null, ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Perfis de produção não devem aplicar os dados de exemplo")
+    void naoDeveAplicarDadosDeExemplo() {
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" "
+                + "WHERE \"script\" = 'R__dados_iniciais.sql'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("IDs devem vir da sequência em ordem crescente")
+    void idsDevemSerCrescentes() {
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Listagem paginada deve continuar do último ID sem repetir")
+    void listagemPaginada() {
+        List<TarefaResponseDTO> primeira = tarefaRepository.listarProjecao(0L, 5, false);
+        List<TarefaResponseDTO> segunda = tarefaRepository.listarProjecao(primeira.get(4).getId(), 100, true);
+
+        assertEquals(ids.subList(0, 5), idsDe(primeira));
+        assertEquals(ids.subList(5, 12), idsDe(segunda));
+        assertNull(primeira.get(0).getDescricao());
+        assertEquals("Descrição 5", segunda.get(0).getDescricao());
+    }
+
+    @Test
+    @DisplayName("Filtros por status e prioridade devem trazer as mesmas tarefas")
+    void filtrosPorStatusEPrioridade() {
+        assertEquals(List.of(ids.get(0), ids.get(3), ids.get(6), ids.get(9)),
+                idsDe(tarefaRepository.listarProjecaoPorStatus(StatusTarefa.CONCLUIDA, 0L, 100, true)));
+        assertEquals(List.of(ids.get(2), ids.get(6), ids.get(10)),
+                idsDe(tarefaRepository.listarProjecaoPorPrioridade(Prioridade.values()[2], 0L, 100, true)));
+        assertEquals(2, tarefaRepository.findByStatusAndPrioridade(StatusTarefa.PENDENTE, Prioridade.values()[1])
+                .size());
+    }
+
+    @Test
+    @DisplayName("Listagem ordenada deve seguir rank, data de criação e ID entre páginas")
+    void listagemOrdenada() {
+        List<TarefaResponseDTO> todas = tarefaRepository.listarProjecaoOrdenada(null, null, null, 100, true);
+        TarefaResponseDTO ultimaPrimeiraPagina = todas.get(4);
+        List<TarefaResponseDTO> continuacao = tarefaRepository.listarProjecaoOrdenada(
+                ultimaPrimeiraPagina.getPrioridade().getRank(), ultimaPrimeiraPagina.getDataCriacao(),
+                ultimaPrimeiraPagina.getId(), 100, true);
+
+        assertEquals(12, todas.size());
+        for (int i = 1; i < todas.size(); i++) {
+            TarefaResponseDTO anterior = todas.get(i - 1);
+            TarefaResponseDTO atual = todas.get(i);
+            int rank = Integer.compare(anterior.getPrioridade().getRank(), atual.getPrioridade().getRank());
+            assertTrue(rank < 0 || (rank == 0 && (anterior.getDataCriacao().isBefore(atual.getDataCriacao())
+                    || (anterior.getDataCriacao().equals(atual.getDataCriacao())
+                    && anterior.getId() < atual.getId()))));
+        }
+        assertEquals(idsDe(todas.subList(5, 12)), idsDe(continuacao));
+    }
+
+    @Test
+    @DisplayName("Alterações devem sair em ordem de data de atualização e respeitar o limite superior")
+    void listagemAlteracoes() {
+        List<TarefaResponseDTO> primeira = tarefaRepository.listarProjecaoAlteradas(
+                BASE, 0L, BASE.plusHours(1).plusSeconds(11), 4);
+        TarefaResponseDTO ultima = primeira.get(3);
+        List<TarefaResponseDTO> segunda = tarefaRepository.listarProjecaoAlteradas(
+                ultima.getDataAtualizacao(), ultima.getId(), BASE.plusHours(1).plusSeconds(11), 100);
+
+        assertEquals(List.of(ids.get(11), ids.get(10), ids.get(9), ids.get(8)), idsDe(primeira));
+        assertEquals(List.of(ids.get(7), ids.get(6), ids.get(5), ids.get(4), ids.get(3), ids.get(2)),
+                idsDe(segunda));
+    }
+
+    @Test
+    @DisplayName("Estatísticas devem agrupar e somar o tempo de conclusão em segundos")
+    void consultasDeEstatisticas() {
+        long total = tarefaRepository.contarPorStatusEPrioridade().stream()
+                .mapToLong(linha -> ((Number) linha[2]).longValue())
+                .sum();
+        Object[] conclusao = tarefaRepository.somarTempoConclusao().get(0);
+
+        assertEquals(12, total);
+        assertEquals(4L, ((Number) conclusao[0]).longValue());
+        assertEquals(360.0, ((Number) conclusao[1]).doubleValue(), 0.001);
+        assertEquals(4, tarefaRepository.countByDataConclusaoGreaterThanEqual(BASE));
+    }
+
+    @Test
+    @DisplayName("Atualização condicional não deve reabrir tarefa concluída nem ignorar a versão")
+    void atualizacaoCondicional() {
+        LocalDateTime agora = BASE.plusDays(1);
+
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                ids.get(0), StatusTarefa.PENDENTE, null, null, agora));
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                ids.get(1), StatusTarefa.CONCLUIDA, null, 99L, agora));
+        assertEquals(1, tarefaRepository.atualizarStatusSeNaoConcluida(
+                ids.get(1), StatusTarefa.CONCLUIDA, null, 0L, agora));
+
+        Tarefa concluida = tarefaRepository.findById(ids.get(1)).orElseThrow();
+        assertEquals(agora, concluida.getDataConclusao());
+        assertEquals(1L, concluida.getVersao());
+    }
+
+    @Test
+    @DisplayName("Remoções devem ser registradas só para tarefas existentes e listadas em ordem")
+    void registroDeRemocoes() {
+        int registradas = tarefaRemovidaRepository.registrarRemocao(List.of(ids.get(1), ids.get(2), -1L), BASE);
+        List<TarefaRemovida> removidas = tarefaRemovidaRepository.listarRemovidasApos(
+                BASE, ids.get(1), BASE.plusSeconds(1), Limit.of(10));
+
+        assertEquals(2, registradas);
+        assertEquals(List.of(ids.get(2)), removidas.stream().map(TarefaRemovida::getId).toList());
+        assertEquals(List.of(ids.get(1), ids.get(2)),
+                tarefaRepository.buscarIdsExistentes(List.of(ids.get(1), ids.get(2), -1L)).stream().sorted().toList());
+
+        List<Long> expiradas = tarefaRemovidaRepository.listarExpiradas(BASE.plusSeconds(1), 1);
+        assertEquals(1, expiradas.size());
+        assertEquals(1, tarefaRemovidaRepository.expurgar(expiradas));
+        assertEquals(1, tarefaRemovidaRepository.listarExpiradas(BASE.plusSeconds(1), 10).size());
+    }
+
+    @Test
+    @DisplayName("Exportação deve aplicar filtros de status, prioridade e período")
+    void exportacao() {
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO(StatusTarefa.PENDENTE, null,
+                BASE.plusMinutes(1), BASE.plusMinutes(3));
+
+        List<TarefaResponseDTO> primeira = tarefaRepository.exportarProjecao(filtro, 0L, 2);
+        List<TarefaResponseDTO> segunda = tarefaRepository.exportarProjecao(filtro, primeira.get(1).getId(), 100);
+
+        assertEquals(List.of(ids.get(1), ids.get(2)), idsDe(primeira));
+        assertEquals(List.of(ids.get(5), ids.get(10)), idsDe(segunda));
+    }
+
+    private static List<Long> idsDe(List<TarefaResponseDTO> tarefas) {
+        return tarefas.stream().map(TarefaResponseDTO::getId).toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.estagio.tarefas.repository;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Perfil postgresql (dialeto do Hibernate e configuração) sobre um H2 em modo de compatibilidade com o
+ * PostgreSQL, para rodar sem um servidor. Só a migração da sequência vem da pasta do H2: o H2 não tem setval
+ * nem DROP IDENTITY IF EXISTS, então db/vendor/postgresql não é executado aqui.
+ */
+@ActiveProfiles({"prod", "postgresql"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tarefas-postgresql;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+                + "DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.flyway.locations=classpath:db/migration,classpath:db/vendor/h2"
+})
+class ConsultasPostgresqlTest extends ConsultasPorPerfilTest {
+}
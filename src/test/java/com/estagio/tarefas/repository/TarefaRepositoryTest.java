@@ -0,0 +1,301 @@
+package com.estagio.tarefas.repository;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.model.TarefaRemovida;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.estagio.tarefas.repository.TarefaRepositoryTest$CapturadorSql")
+class TarefaRepositoryTest {
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private TarefaRemovidaRepository tarefaRemovidaRepository;
+
+    @Autowired
+    private TarefaArquivadaRepository tarefaArquivadaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Tarefa tarefa = new Tarefa();
+            tarefa.setTitulo("Tarefa " + i);
+            tarefa.setStatus(StatusTarefa.values()[i % StatusTarefa.values().length]);
+            tarefa.setPrioridade(Prioridade.values()[i % Prioridade.values().length]);
+            tarefas.add(tarefa);
+        }
+        tarefaRepository.saveAllAndFlush(tarefas);
+        jdbcTemplate.execute("ANALYZE");
+        CapturadorSql.limpar();
+    }
+
+    @Test
+    @DisplayName("Listagem paginada deve usar a chave primária")
+    void listagemPaginadaDeveUsarChavePrimaria() {
+        tarefaRepository.listarProjecao(0L, 51, true);
+
+        assertUsaIndice("PRIMARY_KEY", 0L, 51);
+    }
+
+    @Test
+    @DisplayName("Busca por status deve usar o índice de status")
+    void buscaPorStatusDeveUsarIndice() {
+        tarefaRepository.listarProjecaoPorStatus(StatusTarefa.PENDENTE, 0L, 51, true);
+
+        assertUsaIndice("IDX_TAREFAS_STATUS", StatusTarefa.PENDENTE.name(), 0L, 51);
+    }
+
+    @Test
+    @DisplayName("Busca por prioridade deve usar o índice de prioridade")
+    void buscaPorPrioridadeDeveUsarIndice() {
+        tarefaRepository.listarProjecaoPorPrioridade(Prioridade.ALTA, 0L, 51, true);
+
+        assertUsaIndice("IDX_TAREFAS_PRIORIDADE", Prioridade.ALTA.name(), 0L, 51);
+    }
+
+    @Test
+    @DisplayName("Busca por status e prioridade deve usar o índice composto")
+    void buscaPorStatusEPrioridadeDeveUsarIndice() {
+        tarefaRepository.findByStatusAndPrioridade(StatusTarefa.PENDENTE, Prioridade.ALTA);
+
+        assertUsaIndice("IDX_TAREFAS_STATUS", StatusTarefa.PENDENTE.name(), Prioridade.ALTA.name());
+    }
+
+    @Test
+    @DisplayName("Listagem ordenada deve usar o índice de rank de prioridade")
+    void listagemOrdenadaDeveUsarIndice() {
+        tarefaRepository.listarProjecaoOrdenada(null, null, null, 51, true);
+
+        assertUsaIndice("IDX_TAREFAS_PRIORIDADE_RANK", 51);
+    }
+
+    @Test
+    @DisplayName("Continuação da listagem ordenada deve usar o índice de rank de prioridade")
+    void continuacaoListagemOrdenadaDeveUsarIndice() {
+        LocalDateTime agora = LocalDateTime.now();
+        tarefaRepository.listarProjecaoOrdenada(2, agora, 10L, 51, true);
+
+        assertUsaIndice("IDX_TAREFAS_PRIORIDADE_RANK", 2, 2, agora, agora, 10L, 51);
+    }
+
+    @Test
+    @DisplayName("Listagem de alterações deve usar o índice de data de atualização")
+    void listagemAlteracoesDeveUsarIndice() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime ate = agora.plusMinutes(1);
+        tarefaRepository.listarProjecaoAlteradas(agora, 10L, ate, 51);
+
+        assertUsaIndice("IDX_TAREFAS_DATA_ATUALIZACAO", agora, ate, agora, 10L, 51);
+    }
+
+    @Test
+    @DisplayName("Remoção deve registrar apenas tarefas existentes e listá-las em ordem")
+    void remocaoDeveRegistrarTarefasExistentes() {
+        List<Long> ids = tarefaRepository.listarProjecao(0L, 2, false).stream()
+                .map(TarefaResponseDTO::getId)
+                .toList();
+        LocalDateTime agora = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+        int registradas = tarefaRemovidaRepository.registrarRemocao(List.of(ids.get(0), ids.get(1), -1L), agora);
+        List<TarefaRemovida> removidas = tarefaRemovidaRepository.listarRemovidasApos(
+                agora, ids.get(0), agora.plusSeconds(1), Limit.of(10));
+
+        assertEquals(2, registradas);
+        assertEquals(List.of(ids.get(1)), removidas.stream().map(TarefaRemovida::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Listagem resumida não deve ler a descrição")
+    void listagemResumidaNaoDeveLerDescricao() {
+        List<TarefaResponseDTO> tarefas = tarefaRepository.listarProjecao(0L, 10, false);
+
+        assertEquals(10, tarefas.size());
+        assertTrue(tarefas.stream().allMatch(t -> t.getDescricao() == null && t.getTitulo() != null));
+        assertFalse(CapturadorSql.ultimaConsulta().contains("descricao"));
+    }
+
+    @Test
+    @DisplayName("Exportação deve aplicar os filtros e percorrer em ordem de id")
+    void exportacaoDeveAplicarFiltros() {
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO(StatusTarefa.PENDENTE, Prioridade.BAIXA,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+        List<TarefaResponseDTO> tarefas = tarefaRepository.exportarProjecao(filtro, 0L, 10_000);
+
+        long esperadas = tarefaRepository.findByStatusAndPrioridade(StatusTarefa.PENDENTE, Prioridade.BAIXA).size();
+        assertEquals(esperadas, tarefas.size());
+        assertTrue(tarefas.stream().allMatch(t -> t.getStatus() == StatusTarefa.PENDENTE
+                && t.getPrioridade() == Prioridade.BAIXA));
+        for (int i = 1; i < tarefas.size(); i++) {
+            assertTrue(tarefas.get(i - 1).getId() < tarefas.get(i).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Consultas de estatísticas devem agrupar contagens e somar o tempo de conclusão")
+    void consultasDeEstatisticas() {
+        long total = tarefaRepository.contarPorStatusEPrioridade().stream()
+                .mapToLong(linha -> (Long) linha[2])
+                .sum();
+        assertEquals(tarefaRepository.count(), total);
+
+        Object[] antes = tarefaRepository.somarTempoConclusao().get(0);
+        Tarefa tarefa = tarefaRepository.findAll().stream()
+                .filter(t -> t.getDataConclusao() == null)
+                .findFirst()
+                .orElseThrow();
+        LocalDateTime conclusao = LocalDateTime.now().plusDays(1).withNano(0);
+        jdbcTemplate.update("UPDATE tarefas SET data_conclusao = ? WHERE id = ?", conclusao, tarefa.getId());
+
+        Object[] depois = tarefaRepository.somarTempoConclusao().get(0);
+        long segundos = Duration.between(tarefa.getDataCriacao(), conclusao).getSeconds();
+        assertEquals(((Number) antes[0]).longValue() + 1, ((Number) depois[0]).longValue());
+        assertEquals(((Number) antes[1]).doubleValue() + segundos, ((Number) depois[1]).doubleValue(), 1.0);
+        assertEquals(1L, tarefaRepository.countByDataConclusaoGreaterThanEqual(conclusao));
+    }
+
+    @Test
+    @DisplayName("Busca por IDs deve usar a chave primária")
+    void buscaPorIdsDeveUsarChavePrimaria() {
+        tarefaRepository.buscarProjecaoPorIds(List.of(1L, 2L, 3L), true);
+
+        assertUsaIndice("PRIMARY_KEY", 1L, 2L, 3L, 3);
+    }
+
+    @Test
+    @DisplayName("Atualização de status deve ser condicional e preencher a data de conclusão")
+    void atualizacaoDeStatusDeveSerCondicional() {
+        Tarefa tarefa = tarefaRepository.findAll().stream()
+                .filter(t -> t.getStatus() == StatusTarefa.PENDENTE)
+                .findFirst()
+                .orElseThrow();
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                tarefa.getId(), StatusTarefa.CONCLUIDA, StatusTarefa.EM_ANDAMENTO, null, agora));
+        assertEquals(1, tarefaRepository.atualizarStatusSeNaoConcluida(
+                tarefa.getId(), StatusTarefa.CONCLUIDA, StatusTarefa.PENDENTE, null, agora));
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                tarefa.getId(), StatusTarefa.PENDENTE, null, null, agora));
+        assertEquals(1, tarefaRepository.atualizarStatusSeNaoConcluida(
+                tarefa.getId(), StatusTarefa.CONCLUIDA, null, 1L, agora.plusDays(1)));
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                tarefa.getId(), StatusTarefa.CONCLUIDA, null, 1L, agora));
+        assertEquals(0, tarefaRepository.atualizarStatusSeNaoConcluida(
+                -1L, StatusTarefa.CONCLUIDA, null, null, agora));
+
+        Tarefa atualizada = tarefaRepository.findById(tarefa.getId()).orElseThrow();
+        assertEquals(StatusTarefa.CONCLUIDA, atualizada.getStatus());
+        assertEquals(agora, atualizada.getDataConclusao());
+        assertEquals(agora.plusDays(1), atualizada.getDataAtualizacao());
+        assertEquals(2L, atualizada.getVersao());
+        assertEquals(Optional.of(2L), tarefaRepository.findVersaoById(tarefa.getId()));
+    }
+
+    @Test
+    @DisplayName("Deve iniciar a próxima pendente por prioridade e recusar quem não está pendente")
+    void deveIniciarProximaPendente() {
+        Long id = tarefaRepository.travarProximaPendente().orElseThrow();
+        Tarefa esperada = tarefaRepository.findAll().stream()
+                .filter(t -> t.getStatus() == StatusTarefa.PENDENTE)
+                .min(Comparator.comparing(Tarefa::getPrioridadeRank)
+                        .thenComparing(Tarefa::getDataCriacao)
+                        .thenComparing(Tarefa::getId))
+                .orElseThrow();
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+
+        assertEquals(esperada.getId(), id);
+        assertEquals(1, tarefaRepository.iniciarSePendente(id, agora));
+        assertEquals(0, tarefaRepository.iniciarSePendente(id, agora));
+
+        Tarefa iniciada = tarefaRepository.findById(id).orElseThrow();
+        assertEquals(StatusTarefa.EM_ANDAMENTO, iniciada.getStatus());
+        assertEquals(esperada.getVersao() + 1, iniciada.getVersao());
+        assertNotEquals(id, tarefaRepository.travarProximaPendente().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve mover para o arquivo apenas tarefas encerradas antigas e expurgá-las após a retenção")
+    void deveArquivarEExpurgarTarefas() {
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+        jdbcTemplate.update("UPDATE tarefas SET data_atualizacao = ? WHERE MOD(id, 2) = 0", agora.minusDays(40));
+
+        List<Long> ids = tarefaRepository.travarArquivaveis(agora.minusDays(30), 500);
+        List<Tarefa> esperadas = tarefaRepository.findAllById(ids);
+        tarefaArquivadaRepository.arquivar(ids, agora);
+        tarefaRepository.deleteAllByIdInBatch(ids);
+
+        assertFalse(ids.isEmpty());
+        assertTrue(esperadas.stream().allMatch(t -> t.getId() % 2 == 0
+                && (t.getStatus() == StatusTarefa.CONCLUIDA || t.getStatus() == StatusTarefa.CANCELADA)));
+        assertTrue(tarefaRepository.findAllById(ids).isEmpty());
+        assertEquals(ids.size(), tarefaArquivadaRepository.count());
+        List<TarefaResponseDTO> arquivadas = tarefaArquivadaRepository.listarProjecaoPorStatus(
+                StatusTarefa.CONCLUIDA, 0L, false, Limit.of(500));
+        assertFalse(arquivadas.isEmpty());
+        assertNull(arquivadas.get(0).getDescricao());
+        assertEquals(esperadas.get(0).getTitulo(),
+                tarefaArquivadaRepository.buscarProjecaoPorId(esperadas.get(0).getId(), true).orElseThrow().getTitulo());
+
+        assertTrue(tarefaArquivadaRepository.listarExpiradas(agora, 500).isEmpty());
+        List<Long> expiradas = tarefaArquivadaRepository.listarExpiradas(agora.plusSeconds(1), 500);
+        assertEquals(ids.size(), tarefaArquivadaRepository.expurgar(expiradas));
+        assertEquals(0, tarefaArquivadaRepository.count());
+    }
+
+    private void assertUsaIndice(String indice, Object... parametros) {
+        String sql = CapturadorSql.ultimaConsulta();
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parametros);
+
+        assertFalse(plano.contains("tableScan"), () -> "Consulta sem índice:\n" + plano);
+        assertTrue(plano.contains("PUBLIC." + indice), () -> "Índice " + indice + " não utilizado:\n" + plano);
+    }
+
+    public static class CapturadorSql implements StatementInspector {
+
+        private static final List<String> CONSULTAS = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                CONSULTAS.add(sql);
+            }
+            return sql;
+        }
+
+        static synchronized void limpar() {
+            CONSULTAS.clear();
+        }
+
+        static synchronized String ultimaConsulta() {
+            assertFalse(CONSULTAS.isEmpty(), "Nenhuma consulta capturada");
+            return CONSULTAS.get(CONSULTAS.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndiceBuscaListenerTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    private IndiceBuscaTarefas indiceBusca;
+    private IndiceFiltroTarefas indiceFiltro;
+    private IndiceBuscaListener listener;
+
+    @BeforeEach
+    void setUp() {
+        indiceBusca = new IndiceBuscaTarefas();
+        indiceFiltro = new IndiceFiltroTarefas();
+        listener = new IndiceBuscaListener(indiceBusca, indiceFiltro, tarefaRepository);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        indiceBusca.fechar();
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever com o lote lido alterações e remoções confirmadas durante a reindexação")
+    void naoDeveSobrescreverEventosDuranteReindexacao() {
+        when(tarefaRepository.listarProjecao(0L, 1000, true)).thenAnswer(invocacao -> {
+            // Confirmadas depois da leitura do lote e aplicadas antes de ele ser indexado.
+            listener.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA,
+                    tarefa(1L, "Relatório revisado", StatusTarefa.CONCLUIDA, 1L)));
+            listener.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.REMOVIDA,
+                    tarefa(2L, "Relatório antigo", StatusTarefa.PENDENTE, 0L)));
+            return List.of(tarefa(1L, "Relatório", StatusTarefa.PENDENTE, 0L),
+                    tarefa(2L, "Relatório antigo", StatusTarefa.PENDENTE, 0L),
+                    tarefa(3L, "Relatório novo", StatusTarefa.PENDENTE, 0L));
+        });
+
+        listener.reindexar();
+
+        ResultadoFiltro filtro = indiceFiltro.filtrar(null, null, 0, 10);
+        assertEquals(List.of(1L, 3L), filtro.getIds());
+        assertEquals(1L, filtro.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(1L, filtro.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(Set.of(1L, 3L), Set.copyOf(indiceBusca.buscar("relatorio", null, null, 10).stream()
+                .map(ResultadoBusca::getId)
+                .toList()));
+        assertEquals(List.of(1L), indiceBusca.buscar("revisado", null, null, 10).stream()
+                .map(ResultadoBusca::getId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Não deve indexar de novo uma tarefa já removida")
+    void naoDeveIndexarTarefaRemovida() {
+        listener.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.REMOVIDA,
+                tarefa(4L, "Tarefa", StatusTarefa.PENDENTE, 2L)));
+        listener.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA,
+                tarefa(4L, "Tarefa", StatusTarefa.EM_ANDAMENTO, 1L)));
+
+        assertEquals(0, indiceFiltro.filtrar(null, null, 0, 10).getTotal());
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, String titulo, StatusTarefa status, Long versao) {
+        TarefaResponseDTO tarefa = new TarefaResponseDTO();
+        tarefa.setId(id);
+        tarefa.setTitulo(titulo);
+        tarefa.setStatus(status);
+        tarefa.setPrioridade(Prioridade.MEDIA);
+        tarefa.setVersao(versao);
+        return tarefa;
+    }
+}
@@ -0,0 +1,86 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceBuscaTarefasTest {
+
+    private IndiceBuscaTarefas indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceBuscaTarefas();
+        indice.indexarLote(List.of(
+                tarefa(1L, "Configurar integração contínua", "Pipeline de build"),
+                tarefa(2L, "Revisar relatório mensal", "Conferir integração com o financeiro"),
+                tarefa(3L, "Estudar Spring Boot", null)));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        indice.fechar();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar termos ignorando acentos e maiúsculas")
+    void deveIgnorarAcentosEMaiusculas() {
+        assertEquals(List.of(1L, 2L), ids(indice.buscar("INTEGRACAO", null, null, 10)));
+        assertEquals(List.of(2L), ids(indice.buscar("relatorio", null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar termos por prefixo")
+    void deveEncontrarPorPrefixo() {
+        assertEquals(List.of(3L), ids(indice.buscar("spr bo", null, null, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve ranquear ocorrências no título acima da descrição")
+    void deveRanquearTituloAcimaDaDescricao() {
+        List<ResultadoBusca> resultados = indice.buscar("integração", null, null, 10);
+
+        assertEquals(1L, resultados.get(0).getId());
+        assertTrue(resultados.get(0).getScore() > resultados.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Deve paginar a partir do último resultado")
+    void devePaginarAPartirDoUltimoResultado() {
+        ResultadoBusca primeiro = indice.buscar("integração", null, null, 1).get(0);
+
+        List<ResultadoBusca> proximos = indice.buscar("integração", primeiro.getScore(), primeiro.getId(), 10);
+
+        assertEquals(List.of(2L), ids(proximos));
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void deveRefletirAtualizacoesERemocoes() {
+        indice.indexar(tarefa(3L, "Estudar integração de sistemas", null));
+        indice.remover(1L);
+
+        assertEquals(List.of(3L, 2L), ids(indice.buscar("integração", null, null, 10)));
+        assertTrue(indice.buscar("spring", null, null, 10).isEmpty());
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, String titulo, String descricao) {
+        TarefaResponseDTO tarefa = new TarefaResponseDTO();
+        tarefa.setId(id);
+        tarefa.setTitulo(titulo);
+        tarefa.setDescricao(descricao);
+        return tarefa;
+    }
+
+    private static List<Long> ids(List<ResultadoBusca> resultados) {
+        return resultados.stream().map(ResultadoBusca::getId).collect(Collectors.toList());
+    }
+}
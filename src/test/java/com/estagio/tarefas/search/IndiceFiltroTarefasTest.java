@@ -0,0 +1,81 @@
+package com.estagio.tarefas.search;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceFiltroTarefasTest {
+
+    private IndiceFiltroTarefas indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceFiltroTarefas();
+        indice.indexarLote(List.of(
+                tarefa(1L, StatusTarefa.PENDENTE, Prioridade.ALTA),
+                tarefa(2L, StatusTarefa.EM_ANDAMENTO, Prioridade.URGENTE),
+                tarefa(3L, StatusTarefa.PENDENTE, Prioridade.BAIXA),
+                tarefa(4L, StatusTarefa.CONCLUIDA, Prioridade.ALTA),
+                tarefa(5_000_000_000L, StatusTarefa.EM_ANDAMENTO, Prioridade.ALTA)));
+    }
+
+    @Test
+    @DisplayName("Deve unir valores da mesma dimensão e cruzar dimensões diferentes")
+    void deveCombinarStatusEPrioridades() {
+        ResultadoFiltro resultado = indice.filtrar(Set.of(StatusTarefa.PENDENTE, StatusTarefa.EM_ANDAMENTO),
+                Set.of(Prioridade.ALTA, Prioridade.URGENTE), 0, 10);
+
+        assertEquals(List.of(1L, 2L, 5_000_000_000L), resultado.getIds());
+        assertEquals(3, resultado.getTotal());
+        assertEquals(1L, resultado.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(2L, resultado.getPorStatus().get(StatusTarefa.EM_ANDAMENTO));
+        assertEquals(0L, resultado.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(2L, resultado.getPorPrioridade().get(Prioridade.ALTA));
+    }
+
+    @Test
+    @DisplayName("Deve considerar todos os valores quando a dimensão não é filtrada")
+    void deveIgnorarDimensaoVazia() {
+        assertEquals(List.of(1L, 4L, 5_000_000_000L),
+                indice.filtrar(null, Set.of(Prioridade.ALTA), 0, 10).getIds());
+        assertEquals(5, indice.filtrar(Set.of(), null, 0, 10).getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve paginar a partir do último ID mantendo as contagens do filtro todo")
+    void devePaginarAPartirDoUltimoId() {
+        ResultadoFiltro resultado = indice.filtrar(null, null, 2L, 2);
+
+        assertEquals(List.of(3L, 4L), resultado.getIds());
+        assertEquals(5, resultado.getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void deveRefletirAtualizacoesERemocoes() {
+        indice.indexar(tarefa(1L, StatusTarefa.CONCLUIDA, Prioridade.ALTA));
+        indice.remover(4L);
+
+        ResultadoFiltro resultado = indice.filtrar(Set.of(StatusTarefa.CONCLUIDA), null, 0, 10);
+
+        assertEquals(List.of(1L), resultado.getIds());
+        assertTrue(indice.filtrar(Set.of(StatusTarefa.PENDENTE), Set.of(Prioridade.ALTA), 0, 10).getIds().isEmpty());
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, StatusTarefa status, Prioridade prioridade) {
+        TarefaResponseDTO tarefa = new TarefaResponseDTO();
+        tarefa.setId(id);
+        tarefa.setTitulo("Tarefa " + id);
+        tarefa.setStatus(status);
+        tarefa.setPrioridade(prioridade);
+        return tarefa;
+    }
+}
@@ -0,0 +1,133 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaArquivadaRepository;
+import com.estagio.tarefas.repository.TarefaRemovidaRepository;
+import com.estagio.tarefas.repository.TarefaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArquivamentoServiceTest {
+
+    private static final Clock RELOGIO = Clock.fixed(Instant.parse("2026-03-31T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime AGORA = LocalDateTime.now(RELOGIO);
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TarefaArquivadaRepository tarefaArquivadaRepository;
+
+    @Mock
+    private TarefaRemovidaRepository tarefaRemovidaRepository;
+
+    @Mock
+    private TransactionTemplate transacao;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArquivamentoService arquivamentoService;
+
+    @BeforeEach
+    void setUp() {
+        when(transacao.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        arquivamentoService = new ArquivamentoService(tarefaRepository, tarefaArquivadaRepository,
+                tarefaRemovidaRepository, transacao, eventPublisher, new SimpleMeterRegistry(), RELOGIO,
+                Duration.ofDays(30), Duration.ofDays(365), 2);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em blocos até encontrar um bloco incompleto")
+    void deveArquivarEmBlocos() {
+        LocalDateTime limite = AGORA.minusDays(30);
+        when(tarefaRepository.travarArquivaveis(limite, 2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(tarefaRepository.buscarProjecaoPorIds(anyCollection(), anyBoolean()))
+                .thenReturn(List.of(dto(1L), dto(2L)), List.of(dto(3L)));
+
+        assertEquals(3, arquivamentoService.arquivar());
+
+        verify(tarefaArquivadaRepository).arquivar(List.of(1L, 2L), AGORA);
+        verify(tarefaArquivadaRepository).arquivar(List.of(3L), AGORA);
+        verify(tarefaRemovidaRepository).registrarRemocao(List.of(3L), AGORA);
+        verify(tarefaRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(transacao, times(2)).execute(any());
+        ArgumentCaptor<TarefaAlteradaEvent> eventos = ArgumentCaptor.forClass(TarefaAlteradaEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(eventos.capture());
+        assertTrue(eventos.getAllValues().stream()
+                .allMatch(evento -> evento.getTipo() == TarefaAlteradaEvent.Tipo.ARQUIVADA));
+    }
+
+    @Test
+    @DisplayName("Não deve alterar nada quando não houver tarefas para arquivar")
+    void naoDeveArquivarSemTarefas() {
+        when(tarefaRepository.travarArquivaveis(any(), eq(2))).thenReturn(List.of());
+
+        assertEquals(0, arquivamentoService.arquivar());
+
+        verifyNoInteractions(tarefaArquivadaRepository, tarefaRemovidaRepository, eventPublisher);
+        verify(tarefaRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Deve expurgar do arquivo as tarefas além da retenção")
+    void deveExpurgarAposRetencao() {
+        LocalDateTime limite = AGORA.minusDays(365);
+        when(tarefaArquivadaRepository.listarExpiradas(limite, 2)).thenReturn(List.of(1L, 2L), List.of());
+        when(tarefaArquivadaRepository.expurgar(List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, arquivamentoService.expurgar());
+
+        verify(tarefaArquivadaRepository, times(1)).expurgar(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve expurgar os registros de remoção além da retenção no mesmo laço em blocos")
+    void deveExpurgarRegistrosDeRemocao() {
+        LocalDateTime limite = AGORA.minusDays(365);
+        when(tarefaArquivadaRepository.listarExpiradas(limite, 2)).thenReturn(List.of(1L), List.of());
+        when(tarefaArquivadaRepository.expurgar(List.of(1L))).thenReturn(1);
+        when(tarefaRemovidaRepository.listarExpiradas(limite, 2))
+                .thenReturn(List.of(5L, 6L), List.of(7L, 8L), List.of());
+        when(tarefaRemovidaRepository.expurgar(anyCollection())).thenReturn(2);
+
+        assertEquals(1, arquivamentoService.expurgar());
+
+        verify(tarefaRemovidaRepository).expurgar(List.of(5L, 6L));
+        verify(tarefaRemovidaRepository).expurgar(List.of(7L, 8L));
+        verify(transacao, times(3)).execute(any());
+    }
+
+    private static TarefaResponseDTO dto(Long id) {
+        return new TarefaResponseDTO(id, "Tarefa " + id, null, StatusTarefa.CONCLUIDA, Prioridade.MEDIA,
+                AGORA.minusDays(60), AGORA.minusDays(40), AGORA.minusDays(40), 2L);
+    }
+}
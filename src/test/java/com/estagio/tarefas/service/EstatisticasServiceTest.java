@@ -0,0 +1,144 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.EstatisticasDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticasServiceTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 3, 15, 14, 0);
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TransactionTemplate leitura;
+
+    private EstatisticasService estatisticasService;
+
+    @BeforeEach
+    void setUp() {
+        Clock relogio = Clock.fixed(AGORA.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        estatisticasService = new EstatisticasService(tarefaRepository, leitura, relogio, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve carregar as contagens do banco na reconciliação")
+    void deveReconciliarComOBanco() {
+        executarLeitura();
+        when(tarefaRepository.contarPorStatusEPrioridade()).thenReturn(List.of(
+                new Object[]{StatusTarefa.PENDENTE, Prioridade.ALTA, 3L},
+                new Object[]{StatusTarefa.CONCLUIDA, Prioridade.BAIXA, 2L}));
+        when(tarefaRepository.countByDataConclusaoGreaterThanEqual(AGORA.toLocalDate().atStartOfDay()))
+                .thenReturn(1L);
+        when(tarefaRepository.somarTempoConclusao())
+                .thenReturn(Collections.singletonList(new Object[]{2L, 7200L}));
+
+        estatisticasService.reconciliar();
+        EstatisticasDTO estatisticas = estatisticasService.obter();
+
+        assertEquals(5, estatisticas.getTotal());
+        assertEquals(3L, estatisticas.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(2L, estatisticas.getPorStatusEPrioridade().get(StatusTarefa.CONCLUIDA).get(Prioridade.BAIXA));
+        assertEquals(0L, estatisticas.getPorPrioridade().get(Prioridade.MEDIA));
+        assertEquals(1, estatisticas.getConcluidasHoje());
+        assertEquals(3600.0, estatisticas.getTempoMedioConclusaoSegundos());
+        assertEquals(AGORA, estatisticas.getUltimaReconciliacao());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar os contadores a cada criação, conclusão e remoção")
+    void deveAtualizarContadoresPorEvento() {
+        TarefaResponseDTO pendente = tarefa(StatusTarefa.PENDENTE, null);
+        TarefaResponseDTO concluida = tarefa(StatusTarefa.CONCLUIDA, AGORA);
+
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA, pendente));
+        estatisticasService.aoAlterarTarefa(
+                new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA, concluida, pendente));
+
+        EstatisticasDTO estatisticas = estatisticasService.obter();
+        assertEquals(1, estatisticas.getTotal());
+        assertEquals(0L, estatisticas.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertEquals(1L, estatisticas.getPorStatus().get(StatusTarefa.CONCLUIDA));
+        assertEquals(1, estatisticas.getConcluidasHoje());
+        assertEquals(7200.0, estatisticas.getTempoMedioConclusaoSegundos());
+
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.REMOVIDA, concluida));
+
+        estatisticas = estatisticasService.obter();
+        assertEquals(0, estatisticas.getTotal());
+        assertEquals(0, estatisticas.getConcluidasHoje());
+        assertNull(estatisticas.getTempoMedioConclusaoSegundos());
+        verifyNoInteractions(tarefaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve reconciliar quando uma atualização chega sem o estado anterior")
+    void deveReconciliarAtualizacaoSemEstadoAnterior() {
+        executarLeitura();
+        when(tarefaRepository.contarPorStatusEPrioridade()).thenReturn(List.of());
+        when(tarefaRepository.countByDataConclusaoGreaterThanEqual(any())).thenReturn(0L);
+        when(tarefaRepository.somarTempoConclusao()).thenReturn(Collections.singletonList(new Object[]{0L, 0L}));
+        estatisticasService.reconciliar();
+        estatisticasService.reconciliarSeNecessario();
+        verify(tarefaRepository, times(1)).contarPorStatusEPrioridade();
+
+        estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(
+                TarefaAlteradaEvent.Tipo.ATUALIZADA, tarefa(StatusTarefa.EM_ANDAMENTO, null)));
+        estatisticasService.reconciliarSeNecessario();
+
+        verify(tarefaRepository, times(2)).contarPorStatusEPrioridade();
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar as alterações recebidas durante a reconciliação")
+    void deveReaplicarAlteracoesDuranteReconciliacao() {
+        executarLeitura();
+        TarefaResponseDTO pendente = tarefa(StatusTarefa.PENDENTE, null);
+        when(tarefaRepository.contarPorStatusEPrioridade()).thenAnswer(inv -> {
+            estatisticasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA, pendente));
+            return List.<Object[]>of(new Object[]{StatusTarefa.PENDENTE, Prioridade.ALTA, 3L});
+        });
+        when(tarefaRepository.countByDataConclusaoGreaterThanEqual(any())).thenReturn(0L);
+        when(tarefaRepository.somarTempoConclusao()).thenReturn(Collections.singletonList(new Object[]{0L, 0L}));
+
+        estatisticasService.reconciliar();
+
+        assertEquals(4, estatisticasService.obter().getTotal());
+        verify(leitura).execute(any());
+    }
+
+    private void executarLeitura() {
+        when(leitura.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static TarefaResponseDTO tarefa(StatusTarefa status, LocalDateTime dataConclusao) {
+        LocalDateTime criacao = AGORA.minusHours(2);
+        return new TarefaResponseDTO(1L, "Tarefa", null, status, Prioridade.ALTA,
+                criacao, criacao, dataConclusao, 0L);
+    }
+}
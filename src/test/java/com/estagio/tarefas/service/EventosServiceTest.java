@@ -0,0 +1,147 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventosServiceTest {
+
+    private static final long EPOCA = 1000L;
+
+    private final List<EmissorCapturado> emissores = new ArrayList<>();
+    private EventosService eventosService;
+
+    @BeforeEach
+    void setUp() {
+        eventosService = criarServico(3);
+    }
+
+    @Test
+    @DisplayName("Deve enviar apenas os eventos que correspondem ao filtro do assinante")
+    void deveFiltrarPorStatusEPrioridade() {
+        eventosService.assinar(null, Set.of(StatusTarefa.PENDENTE), Set.of());
+        TarefaResponseDTO pendente = tarefa(1L, StatusTarefa.PENDENTE);
+        TarefaResponseDTO concluida = tarefa(1L, StatusTarefa.CONCLUIDA);
+
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, pendente, null);
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(2L, StatusTarefa.CONCLUIDA), null);
+        publicar(TarefaAlteradaEvent.Tipo.ATUALIZADA, concluida, pendente);
+
+        assertEquals(List.of(
+                "id:1000-1\nevent:criada\ndata:tarefa:1\n\n",
+                "id:1000-3\nevent:atualizada\ndata:tarefa:1\n\n"), emissores.get(0).enviados);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os eventos posteriores ao Last-Event-ID")
+    void deveRetomarDoUltimoEvento() {
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(1L, StatusTarefa.PENDENTE), null);
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(2L, StatusTarefa.PENDENTE), null);
+        publicar(TarefaAlteradaEvent.Tipo.REMOVIDA, tarefa(1L, StatusTarefa.PENDENTE), null);
+
+        eventosService.assinar("1000-1", null, null);
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(3L, StatusTarefa.PENDENTE), null);
+
+        assertEquals(List.of(
+                "id:1000-2\nevent:criada\ndata:tarefa:2\n\n",
+                "id:1000-3\nevent:removida\ndata:tarefa:1\n\n",
+                "id:1000-4\nevent:criada\ndata:tarefa:3\n\n"), emissores.get(0).enviados);
+    }
+
+    @Test
+    @DisplayName("Deve pedir reinício quando o Last-Event-ID não está mais no buffer ou é de outra execução")
+    void devePedirReinicio() {
+        for (long id = 1; id <= 5; id++) {
+            publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(id, StatusTarefa.PENDENTE), null);
+        }
+
+        eventosService.assinar("1000-1", null, null);
+        eventosService.assinar("999-4", null, null);
+        eventosService.assinar("1000-2", null, null);
+
+        assertEquals(List.of("id:1000-5\nevent:reinicio\ndata:\n\n"), emissores.get(0).enviados);
+        assertEquals(List.of("id:1000-5\nevent:reinicio\ndata:\n\n"), emissores.get(1).enviados);
+        assertEquals(3, emissores.get(2).enviados.size());
+        assertEquals(3, eventosService.assinantes());
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante cuja fila de envios enche, sem afetar os demais")
+    void deveDesconectarAssinanteLento() {
+        List<Runnable> agendados = new ArrayList<>();
+        eventosService = criarServico(3, 2, agendados::add);
+        eventosService.assinar(null, null, null);
+        eventosService.assinar(null, Set.of(StatusTarefa.CONCLUIDA), null);
+
+        for (long id = 1; id <= 3; id++) {
+            publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(id, StatusTarefa.PENDENTE), null);
+        }
+        publicar(TarefaAlteradaEvent.Tipo.CRIADA, tarefa(4L, StatusTarefa.CONCLUIDA), null);
+        agendados.forEach(Runnable::run);
+
+        assertTrue(emissores.get(0).enviados.isEmpty());
+        assertTrue(emissores.get(0).completado);
+        assertEquals(List.of("id:1000-4\nevent:criada\ndata:tarefa:4\n\n"), emissores.get(1).enviados);
+        assertEquals(1, eventosService.assinantes());
+    }
+
+    private EventosService criarServico(int tamanhoBuffer) {
+        return criarServico(tamanhoBuffer, 10, Runnable::run);
+    }
+
+    private EventosService criarServico(int tamanhoBuffer, int pendentesPorAssinante, Executor despacho) {
+        return new EventosService(tamanhoBuffer, Duration.ofMinutes(1), pendentesPorAssinante, EPOCA, despacho) {
+            @Override
+            SseEmitter novoEmissor() {
+                EmissorCapturado emissor = new EmissorCapturado();
+                emissores.add(emissor);
+                return emissor;
+            }
+        };
+    }
+
+    private void publicar(TarefaAlteradaEvent.Tipo tipo, TarefaResponseDTO tarefa, TarefaResponseDTO anterior) {
+        eventosService.aoAlterarTarefa(new TarefaAlteradaEvent(tipo, tarefa, anterior));
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, StatusTarefa status) {
+        LocalDateTime criacao = LocalDateTime.of(2026, 3, 1, 10, 0);
+        return new TarefaResponseDTO(id, "Tarefa " + id, null, status, Prioridade.MEDIA, criacao, criacao, null, 0L);
+    }
+
+    private static class EmissorCapturado extends SseEmitter {
+
+        private final List<String> enviados = new ArrayList<>();
+        private boolean completado;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder texto = new StringBuilder();
+            for (DataWithMediaType dado : builder.build()) {
+                texto.append(dado.getData() instanceof TarefaResponseDTO tarefa
+                        ? "tarefa:" + tarefa.getId()
+                        : dado.getData());
+            }
+            enviados.add(texto.toString());
+        }
+
+        @Override
+        public void complete() {
+            completado = true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.FiltroExportacaoDTO;
+import com.estagio.tarefas.dto.FormatoExportacao;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportacaoServiceTest {
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private TransactionTemplate transacao;
+
+    private ExportacaoService exportacaoService;
+
+    private TarefaResponseDTO tarefa;
+    private TarefaResponseDTO tarefaComVirgula;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportacaoService = new ExportacaoService(tarefaRepository, objectMapper, transacao);
+
+        LocalDateTime criacao = LocalDateTime.of(2026, 1, 10, 9, 30);
+        tarefa = new TarefaResponseDTO(1L, "Tarefa 1", null, StatusTarefa.PENDENTE, Prioridade.ALTA,
+                criacao, criacao, null, 0L);
+        tarefaComVirgula = new TarefaResponseDTO(2L, "Revisar \"API\"", "Linha 1, linha 2",
+                StatusTarefa.CONCLUIDA, Prioridade.BAIXA, criacao, criacao, criacao, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve exportar uma tarefa por linha em NDJSON")
+    void deveExportarNdjson() throws Exception {
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO();
+        executarTransacoes();
+        when(tarefaRepository.exportarProjecao(filtro, 0L, ExportacaoService.TAMANHO_PAGINA))
+                .thenReturn(List.of(tarefa, tarefaComVirgula));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportar(filtro, FormatoExportacao.NDJSON, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas.length);
+        assertTrue(linhas[0].startsWith("{\"id\":1,\"titulo\":\"Tarefa 1\",\"status\":\"PENDENTE\""));
+        assertTrue(linhas[1].contains("\"dataConclusao\":\"2026-01-10T09:30:00\""));
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV com cabeçalho e campos escapados")
+    void deveExportarCsv() throws Exception {
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO(StatusTarefa.CONCLUIDA, null, null, null);
+        executarTransacoes();
+        when(tarefaRepository.exportarProjecao(filtro, 0L, ExportacaoService.TAMANHO_PAGINA))
+                .thenReturn(List.of(tarefaComVirgula));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportar(filtro, FormatoExportacao.CSV, saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,titulo,descricao,status,prioridade,dataCriacao,dataAtualizacao,dataConclusao,versao",
+                linhas[0]);
+        assertEquals("2,\"Revisar \"\"API\"\"\",\"Linha 1, linha 2\",CONCLUIDA,BAIXA,"
+                + "2026-01-10T09:30,2026-01-10T09:30,2026-01-10T09:30,3", linhas[1]);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar intervalo de datas invertido")
+    void deveRejeitarIntervaloInvertido() {
+        LocalDateTime agora = LocalDateTime.now();
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO(null, null, agora, agora.minusDays(1));
+
+        assertThrows(BusinessException.class,
+                () -> exportacaoService.exportar(filtro, FormatoExportacao.NDJSON, new ByteArrayOutputStream()));
+
+        verify(tarefaRepository, never()).exportarProjecao(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve ler cada página em uma transação continuando do último id exportado")
+    void deveExportarEmPaginas() throws Exception {
+        FiltroExportacaoDTO filtro = new FiltroExportacaoDTO();
+        List<TarefaResponseDTO> primeira = new ArrayList<>();
+        for (long id = 1; id <= ExportacaoService.TAMANHO_PAGINA; id++) {
+            primeira.add(new TarefaResponseDTO(id, "Tarefa " + id, null, StatusTarefa.PENDENTE, Prioridade.ALTA,
+                    tarefa.getDataCriacao(), tarefa.getDataCriacao(), null, 0L));
+        }
+        executarTransacoes();
+        when(tarefaRepository.exportarProjecao(filtro, 0L, ExportacaoService.TAMANHO_PAGINA)).thenReturn(primeira);
+        when(tarefaRepository.exportarProjecao(filtro, (long) ExportacaoService.TAMANHO_PAGINA,
+                ExportacaoService.TAMANHO_PAGINA)).thenReturn(List.of());
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacaoService.exportar(filtro, FormatoExportacao.CSV, saida);
+
+        assertEquals(ExportacaoService.TAMANHO_PAGINA + 1, saida.toString(StandardCharsets.UTF_8).split("\n").length);
+        verify(transacao, times(2)).execute(any());
+    }
+
+    private void executarTransacoes() {
+        when(transacao.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,167 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.repository.TarefaEnfileirada;
+import com.estagio.tarefas.repository.TarefaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FilaTarefasServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FilaTarefasService filaTarefasService;
+
+    @BeforeEach
+    void setUp() {
+        filaTarefasService = new FilaTarefasService(tarefaRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve despachar a tarefa de maior prioridade e, entre iguais, a mais antiga")
+    void deveDespacharPorPrioridadeEAntiguidade() {
+        when(tarefaRepository.listarPendentes()).thenReturn(List.of(
+                pendente(1L, Prioridade.ALTA, BASE.plusMinutes(1)),
+                pendente(2L, Prioridade.URGENTE, BASE.plusMinutes(5)),
+                pendente(3L, Prioridade.ALTA, BASE),
+                pendente(4L, Prioridade.BAIXA, BASE.minusDays(1))));
+        when(tarefaRepository.iniciarSePendente(anyLong(), any(LocalDateTime.class))).thenReturn(1);
+        when(tarefaRepository.findById(anyLong())).thenAnswer(invocacao -> Optional.of(
+                emAndamento(invocacao.getArgument(0))));
+        filaTarefasService.carregar();
+
+        List<Long> despachadas = List.of(
+                filaTarefasService.despacharProxima().orElseThrow().getId(),
+                filaTarefasService.despacharProxima().orElseThrow().getId(),
+                filaTarefasService.despacharProxima().orElseThrow().getId(),
+                filaTarefasService.despacharProxima().orElseThrow().getId());
+
+        assertEquals(List.of(2L, 3L, 1L, 4L), despachadas);
+        assertEquals(0, filaTarefasService.pendentes());
+        ArgumentCaptor<TarefaAlteradaEvent> evento = ArgumentCaptor.forClass(TarefaAlteradaEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(evento.capture());
+        assertEquals(StatusTarefa.PENDENTE, evento.getValue().getAnterior().getStatus());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, evento.getValue().getTarefa().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve pular entradas desatualizadas e recorrer ao banco quando a memória se esgotar")
+    void devePularDesatualizadasERecorrerAoBanco() {
+        when(tarefaRepository.listarPendentes()).thenReturn(List.of(pendente(1L, Prioridade.URGENTE, BASE)));
+        when(tarefaRepository.iniciarSePendente(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+        when(tarefaRepository.travarProximaPendente()).thenReturn(Optional.of(9L), Optional.empty());
+        when(tarefaRepository.iniciarSePendente(eq(9L), any(LocalDateTime.class))).thenReturn(1);
+        when(tarefaRepository.findById(9L)).thenReturn(Optional.of(emAndamento(9L)));
+        filaTarefasService.carregar();
+
+        assertEquals(9L, filaTarefasService.despacharProxima().orElseThrow().getId());
+        assertTrue(filaTarefasService.despacharProxima().isEmpty());
+        verify(tarefaRepository, times(1)).iniciarSePendente(eq(1L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a tarefa à fila quando a transação do despacho é desfeita")
+    void deveDevolverTarefaQuandoTransacaoDesfeita() {
+        when(tarefaRepository.listarPendentes()).thenReturn(List.of(pendente(1L, Prioridade.URGENTE, BASE)));
+        when(tarefaRepository.iniciarSePendente(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(emAndamento(1L)));
+        filaTarefasService.carregar();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            filaTarefasService.despacharProxima();
+            assertEquals(0, filaTarefasService.pendentes());
+            TransactionSynchronizationManager.getSynchronizations().forEach(sincronizacao ->
+                    sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, filaTarefasService.pendentes());
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar criações, mudanças de status e remoções")
+    void deveAcompanharAlteracoes() {
+        TarefaResponseDTO criada = dto(1L, StatusTarefa.PENDENTE, Prioridade.MEDIA);
+        TarefaResponseDTO outra = dto(2L, StatusTarefa.PENDENTE, Prioridade.BAIXA);
+
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA, criada));
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA, outra));
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.CRIADA,
+                dto(3L, StatusTarefa.CONCLUIDA, Prioridade.URGENTE)));
+        assertEquals(2, filaTarefasService.pendentes());
+
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA,
+                dto(1L, StatusTarefa.EM_ANDAMENTO, Prioridade.MEDIA), criada));
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.REMOVIDA, outra));
+        assertEquals(0, filaTarefasService.pendentes());
+
+        filaTarefasService.aoAlterarTarefa(new TarefaAlteradaEvent(TarefaAlteradaEvent.Tipo.ATUALIZADA,
+                dto(1L, StatusTarefa.PENDENTE, Prioridade.ALTA), null));
+        assertEquals(1, filaTarefasService.pendentes());
+    }
+
+    private static TarefaEnfileirada pendente(Long id, Prioridade prioridade, LocalDateTime dataCriacao) {
+        return new TarefaEnfileirada() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Prioridade getPrioridade() {
+                return prioridade;
+            }
+
+            @Override
+            public LocalDateTime getDataCriacao() {
+                return dataCriacao;
+            }
+        };
+    }
+
+    private static Tarefa emAndamento(Long id) {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setId(id);
+        tarefa.setTitulo("Tarefa " + id);
+        tarefa.setStatus(StatusTarefa.EM_ANDAMENTO);
+        tarefa.setPrioridade(Prioridade.MEDIA);
+        tarefa.setDataCriacao(BASE);
+        tarefa.setVersao(1L);
+        return tarefa;
+    }
+
+    private static TarefaResponseDTO dto(Long id, StatusTarefa status, Prioridade prioridade) {
+        return new TarefaResponseDTO(id, "Tarefa " + id, null, status, prioridade, BASE, BASE, null, 0L);
+    }
+}
@@ -0,0 +1,249 @@
+package com.estagio.tarefas.service;
+
+import com.estagio.tarefas.dto.IngestaoStatusDTO;
+import com.estagio.tarefas.dto.SituacaoIngestao;
+import com.estagio.tarefas.dto.TarefaRequestDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
+import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.exception.FilaIngestaoCheiaException;
+import com.estagio.tarefas.exception.SobrecargaException;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import com.estagio.tarefas.repository.TarefaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestaoServiceTest {
+
+    private static final String PROXIMO_BLOCO = "SELECT NEXT VALUE FOR tarefas_seq";
+
+    @Mock
+    private TarefaService tarefaService;
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transacao;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    private Path diretorio;
+
+    private ObjectMapper objectMapper;
+    private Path arquivo;
+    private IngestaoService ingestaoService;
+    private TarefaRequestDTO dto;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        arquivo = diretorio.resolve("ingestao.journal");
+        dto = new TarefaRequestDTO("Tarefa Teste", "Descrição", StatusTarefa.PENDENTE, Prioridade.ALTA);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ingestaoService != null) {
+            ingestaoService.parar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a tarefa com ID do bloco reservado e registrá-la no journal")
+    void deveAceitarTarefa() throws Exception {
+        ingestaoService = criarServico(10);
+        when(jdbcTemplate.queryForObject(PROXIMO_BLOCO, Long.class)).thenReturn(100L, 150L);
+
+        IngestaoStatusDTO primeira = ingestaoService.aceitar(dto);
+        IngestaoStatusDTO segunda = ingestaoService.aceitar(dto);
+
+        assertEquals(51L, primeira.getId());
+        assertEquals(52L, segunda.getId());
+        assertEquals(SituacaoIngestao.PENDENTE, ingestaoService.consultar(51L).getSituacao());
+        assertEquals(2, Files.readAllLines(arquivo).size());
+        verify(jdbcTemplate, times(1)).queryForObject(PROXIMO_BLOCO, Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarefas quando a fila estiver cheia")
+    void deveRecusarQuandoFilaCheia() throws Exception {
+        ingestaoService = criarServico(1);
+        when(jdbcTemplate.queryForObject(PROXIMO_BLOCO, Long.class)).thenReturn(50L);
+
+        ingestaoService.aceitar(dto);
+
+        assertThrows(FilaIngestaoCheiaException.class, () -> ingestaoService.aceitar(dto));
+        assertEquals(1, Files.readAllLines(arquivo).size());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar tarefas inválidas")
+    void naoDeveRegistrarTarefaInvalida() throws Exception {
+        ingestaoService = criarServico(10);
+        doThrow(new BusinessException("O status da tarefa é obrigatório")).when(tarefaService).validarTarefa(dto);
+
+        assertThrows(BusinessException.class, () -> ingestaoService.aceitar(dto));
+        assertEquals(0, Files.size(arquivo));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a linha incompleta e truncar o journal quando tudo for confirmado")
+    void deveRecuperarJournal() throws Exception {
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1 << 20)) {
+            journal.registrar(tarefa(1L));
+            journal.registrar(tarefa(2L));
+        }
+        Files.writeString(arquivo, "{\"id\":3,\"titu", StandardOpenOption.APPEND);
+
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1 << 20)) {
+            List<TarefaIngestao> recuperadas = journal.recuperar();
+
+            assertEquals(List.of(1L, 2L), recuperadas.stream().map(TarefaIngestao::getId).toList());
+            journal.registrar(tarefa(4L));
+            assertTrue(Files.readString(arquivo, StandardCharsets.UTF_8).endsWith("}\n"));
+
+            journal.confirmar(List.of(1L, 2L, 4L));
+            assertEquals(0, Files.size(arquivo));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve compactar o journal mantendo só as tarefas não confirmadas quando a fila não esvazia")
+    void deveCompactarJournal() throws Exception {
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1)) {
+            for (long id = 1; id <= 4; id++) {
+                journal.registrar(tarefa(id));
+            }
+            long tamanhoLinha = Files.size(arquivo) / 4;
+
+            journal.confirmar(List.of(1L, 3L, 4L));
+            journal.registrar(tarefa(5L));
+
+            assertEquals(2, Files.size(arquivo) / tamanhoLinha);
+            assertFalse(Files.exists(diretorio.resolve("ingestao.journal.compactando")));
+        }
+
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1)) {
+            assertEquals(List.of(2L, 5L), journal.recuperar().stream().map(TarefaIngestao::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lote apenas as tarefas do journal que ainda não estão no banco")
+    @SuppressWarnings("unchecked")
+    void deveGravarTarefasRecuperadas() throws Exception {
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1 << 20)) {
+            journal.registrar(tarefa(1L));
+            journal.registrar(tarefa(2L));
+        }
+        when(tarefaRepository.buscarIdsExistentes(List.of(1L, 2L))).thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForObject(PROXIMO_BLOCO, Long.class)).thenReturn(50L, 100L);
+        doAnswer(invocacao -> {
+            invocacao.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transacao).executeWithoutResult(any());
+        ingestaoService = criarServico(10);
+
+        ingestaoService.iniciar();
+
+        ArgumentCaptor<Collection<TarefaIngestao>> gravadas = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, timeout(2000)).batchUpdate(anyString(), gravadas.capture(), eq(1),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(2L), gravadas.getValue().stream().map(TarefaIngestao::getId).toList());
+        verify(eventPublisher, timeout(2000)).publishEvent(any(TarefaAlteradaEvent.class));
+        for (int i = 0; i < 20 && Files.size(arquivo) > 0; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, Files.size(arquivo));
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarefas até recuperar o journal e gravar cada tarefa uma única vez")
+    @SuppressWarnings("unchecked")
+    void deveRecusarTarefasAntesDaRecuperacao() throws Exception {
+        try (JournalIngestao journal = new JournalIngestao(arquivo, objectMapper, 1 << 20)) {
+            journal.registrar(tarefa(1L));
+        }
+        ingestaoService = novoServico(10);
+        when(tarefaRepository.buscarIdsExistentes(List.of(1L))).thenReturn(List.of());
+        when(jdbcTemplate.queryForObject(PROXIMO_BLOCO, Long.class)).thenReturn(50L, 100L);
+        doAnswer(invocacao -> {
+            invocacao.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transacao).executeWithoutResult(any());
+
+        assertThrows(SobrecargaException.class, () -> ingestaoService.aceitar(dto));
+        assertEquals(1, Files.readAllLines(arquivo).size());
+
+        ingestaoService.recuperar();
+        Long aceita = ingestaoService.aceitar(dto).getId();
+        ingestaoService.iniciar();
+
+        for (int i = 0; i < 40 && Files.size(arquivo) > 0; i++) {
+            Thread.sleep(50);
+        }
+        ArgumentCaptor<Collection<TarefaIngestao>> gravadas = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), gravadas.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(1L, aceita), gravadas.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .map(TarefaIngestao::getId)
+                .toList());
+        assertEquals(SituacaoIngestao.GRAVADA, ingestaoService.consultar(1L).getSituacao());
+        assertEquals(0, Files.size(arquivo));
+    }
+
+    private IngestaoService criarServico(int capacidade) throws IOException {
+        IngestaoService servico = novoServico(capacidade);
+        servico.recuperar();
+        return servico;
+    }
+
+    private IngestaoService novoServico(int capacidade) throws IOException {
+        return new IngestaoService(tarefaService, tarefaRepository, jdbcTemplate, transacao, eventPublisher,
+                new JournalIngestao(arquivo, objectMapper, 1 << 20), PROXIMO_BLOCO, capacidade, 500);
+    }
+
+    private static TarefaIngestao tarefa(Long id) {
+        return new TarefaIngestao(id, "Tarefa " + id, null, StatusTarefa.PENDENTE, Prioridade.MEDIA,
+                LocalDateTime.of(2026, 3, 1, 10, 0));
+    }
+}
@@ -1,28 +1,59 @@
 package com.estagio.tarefas.service;
 
+import com.estagio.tarefas.config.CacheConfig;
+import com.estagio.tarefas.dto.AlteracoesDTO;
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.FiltroResponseDTO;
+import com.estagio.tarefas.dto.LoteResultadoDTO;
+import com.estagio.tarefas.dto.PaginaResponseDTO;
 import com.estagio.tarefas.dto.TarefaRequestDTO;
 import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.event.TarefaAlteradaEvent;
 import com.estagio.tarefas.exception.BusinessException;
+import com.estagio.tarefas.exception.PreconditionFailedException;
 import com.estagio.tarefas.exception.ResourceNotFoundException;
 import com.estagio.tarefas.model.Prioridade;
 import com.estagio.tarefas.model.StatusTarefa;
 import com.estagio.tarefas.model.Tarefa;
+import com.estagio.tarefas.model.TarefaRemovida;
+import com.estagio.tarefas.repository.TarefaArquivadaRepository;
+import com.estagio.tarefas.repository.TarefaRemovidaRepository;
 import com.estagio.tarefas.repository.TarefaRepository;
+import com.estagio.tarefas.search.IndiceBuscaTarefas;
+import com.estagio.tarefas.search.IndiceFiltroTarefas;
+import com.estagio.tarefas.search.ResultadoBusca;
+import com.estagio.tarefas.search.ResultadoFiltro;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +62,30 @@ class TarefaServiceTest {
     @Mock
     private TarefaRepository tarefaRepository;
 
-    @InjectMocks
+    @Mock
+    private TarefaRemovidaRepository tarefaRemovidaRepository;
+
+    @Mock
+    private TarefaArquivadaRepository tarefaArquivadaRepository;
+
+    @Mock
+    private IndiceBuscaTarefas indiceBusca;
+
+    @Mock
+    private IndiceFiltroTarefas indiceFiltro;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private CacheManager cacheManager;
+
     private TarefaService tarefaService;
 
     private Tarefa tarefa;
@@ -39,6 +93,9 @@ class TarefaServiceTest {
 
     @BeforeEach
     void setUp() {
+        tarefaService = new TarefaService(tarefaRepository, tarefaRemovidaRepository, tarefaArquivadaRepository,
+                indiceBusca, indiceFiltro, eventPublisher, entityManager, validator, cacheManager,
+                Duration.ofDays(365));
         tarefa = new Tarefa();
         tarefa.setId(1L);
         tarefa.setTitulo("Tarefa Teste");
@@ -64,13 +121,103 @@ class TarefaServiceTest {
         tarefa2.setStatus(StatusTarefa.EM_ANDAMENTO);
         tarefa2.setPrioridade(Prioridade.ALTA);
 
-        when(tarefaRepository.findAll()).thenReturn(Arrays.asList(tarefa, tarefa2));
+        when(tarefaRepository.listarProjecao(0L, 51, true))
+                .thenReturn(dtos(tarefa, tarefa2));
 
-        List<TarefaResponseDTO> resultado = tarefaService.listarTodas();
+        PaginaResponseDTO<TarefaResponseDTO> resultado = tarefaService.listarTodas(null, null, null);
 
         assertNotNull(resultado);
-        assertEquals(2, resultado.size());
-        verify(tarefaRepository, times(1)).findAll();
+        assertEquals(2, resultado.getTamanho());
+        assertNull(resultado.getNextCursor());
+        verify(tarefaRepository, times(1)).listarProjecao(0L, 51, true);
+    }
+
+    @Test
+    @DisplayName("Deve retornar cursor da próxima página quando houver mais tarefas")
+    void deveRetornarCursorDaProximaPagina() {
+        Tarefa tarefa2 = new Tarefa();
+        tarefa2.setId(2L);
+        tarefa2.setTitulo("Tarefa 2");
+        tarefa2.setStatus(StatusTarefa.EM_ANDAMENTO);
+        tarefa2.setPrioridade(Prioridade.ALTA);
+
+        when(tarefaRepository.listarProjecao(0L, 2, true))
+                .thenReturn(dtos(tarefa, tarefa2));
+
+        PaginaResponseDTO<TarefaResponseDTO> primeira = tarefaService.listarTodas(null, 1, null);
+
+        assertEquals(1, primeira.getTamanho());
+        assertEquals(1L, primeira.getItens().get(0).getId());
+        assertNotNull(primeira.getNextCursor());
+
+        when(tarefaRepository.listarProjecao(1L, 2, true))
+                .thenReturn(dtos(tarefa2));
+
+        PaginaResponseDTO<TarefaResponseDTO> segunda = tarefaService.listarTodas(primeira.getNextCursor(), 1, null);
+
+        assertEquals(2L, segunda.getItens().get(0).getId());
+        assertNull(segunda.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho máximo da página")
+    void deveLimitarTamanhoMaximoDaPagina() {
+        when(tarefaRepository.listarProjecao(0L, TarefaService.TAMANHO_PAGINA_MAXIMO + 1, true))
+                .thenReturn(dtos(tarefa));
+
+        tarefaService.listarTodas(null, 100_000, null);
+
+        verify(tarefaRepository).listarProjecao(0L, TarefaService.TAMANHO_PAGINA_MAXIMO + 1, true);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para cursor inválido")
+    void deveLancarExcecaoParaCursorInvalido() {
+        assertThrows(BusinessException.class, () -> {
+            tarefaService.listarTodas("cursor-invalido", null, null);
+        });
+
+        verify(tarefaRepository, never()).listarProjecao(any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Deve omitir a descrição quando a listagem for resumida")
+    void deveOmitirDescricaoNaListagemResumida() {
+        tarefa.setDescricao(null);
+        when(tarefaRepository.listarProjecao(0L, 51, false)).thenReturn(dtos(tarefa));
+
+        PaginaResponseDTO<TarefaResponseDTO> resultado = tarefaService.listarTodas(null, null, CamposTarefa.RESUMO);
+
+        assertNull(resultado.getItens().get(0).getDescricao());
+        verify(tarefaRepository, never()).listarProjecao(0L, 51, true);
+    }
+
+    @Test
+    @DisplayName("Deve incluir as tarefas arquivadas na listagem apenas quando solicitado")
+    void deveIncluirArquivadasQuandoSolicitado() {
+        when(tarefaRepository.listarProjecao(0L, 3, true)).thenReturn(dtos(tarefa(1L), tarefa(4L)));
+        when(tarefaArquivadaRepository.listarProjecao(0L, true, Limit.of(3)))
+                .thenReturn(dtos(tarefa(2L), tarefa(4L), tarefa(5L)));
+
+        PaginaResponseDTO<TarefaResponseDTO> comArquivadas = tarefaService.listarTodas(null, 2, null, true);
+        PaginaResponseDTO<TarefaResponseDTO> semArquivadas = tarefaService.listarTodas(null, 2, null);
+
+        assertEquals(List.of(1L, 2L), comArquivadas.getItens().stream().map(TarefaResponseDTO::getId).toList());
+        assertNotNull(comArquivadas.getNextCursor());
+        assertEquals(List.of(1L, 4L), semArquivadas.getItens().stream().map(TarefaResponseDTO::getId).toList());
+        verify(tarefaArquivadaRepository, times(1)).listarProjecao(any(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar a tarefa no arquivo quando ela não estiver entre as ativas")
+    void deveBuscarTarefaArquivadaPorId() {
+        when(tarefaRepository.findById(7L)).thenReturn(Optional.empty());
+        when(tarefaArquivadaRepository.buscarProjecaoPorId(7L, true))
+                .thenReturn(Optional.of(TarefaResponseDTO.fromEntity(tarefa(7L))));
+        when(tarefaRepository.findById(8L)).thenReturn(Optional.empty());
+
+        assertEquals(7L, tarefaService.buscarPorIdIncluindoArquivadas(7L).getId());
+        assertThrows(ResourceNotFoundException.class, () -> tarefaService.buscarPorIdIncluindoArquivadas(8L));
     }
 
     @Test
@@ -109,13 +256,14 @@ class TarefaServiceTest {
         assertEquals("Tarefa Teste", resultado.getTitulo());
         assertEquals(StatusTarefa.PENDENTE, resultado.getStatus());
         verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TarefaAlteradaEvent.class));
     }
 
     @Test
     @DisplayName("Deve atualizar tarefa com sucesso")
     void deveAtualizarTarefa() {
         when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
-        when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
+        when(tarefaRepository.saveAndFlush(any(Tarefa.class))).thenReturn(tarefa);
 
         TarefaRequestDTO updateDTO = new TarefaRequestDTO();
         updateDTO.setTitulo("Tarefa Atualizada");
@@ -123,11 +271,11 @@ class TarefaServiceTest {
         updateDTO.setStatus(StatusTarefa.EM_ANDAMENTO);
         updateDTO.setPrioridade(Prioridade.ALTA);
 
-        TarefaResponseDTO resultado = tarefaService.atualizar(1L, updateDTO);
+        TarefaResponseDTO resultado = tarefaService.atualizar(1L, updateDTO, null);
 
         assertNotNull(resultado);
         verify(tarefaRepository, times(1)).findById(1L);
-        verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+        verify(tarefaRepository, times(1)).saveAndFlush(any(Tarefa.class));
     }
 
     @Test
@@ -145,11 +293,27 @@ class TarefaServiceTest {
         updateDTO.setPrioridade(Prioridade.ALTA);
 
         assertThrows(BusinessException.class, () -> {
-            tarefaService.atualizar(1L, updateDTO);
+            tarefaService.atualizar(1L, updateDTO, null);
         });
 
         verify(tarefaRepository, times(1)).findById(1L);
-        verify(tarefaRepository, never()).save(any(Tarefa.class));
+        verify(tarefaRepository, never()).saveAndFlush(any(Tarefa.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar tarefa com versão desatualizada")
+    void deveLancarExcecaoAoAtualizarComVersaoDesatualizada() {
+        tarefa.setVersao(3L);
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+
+        TarefaRequestDTO updateDTO = new TarefaRequestDTO();
+        updateDTO.setTitulo("Tarefa Atualizada");
+        updateDTO.setStatus(StatusTarefa.EM_ANDAMENTO);
+        updateDTO.setPrioridade(Prioridade.ALTA);
+
+        assertThrows(PreconditionFailedException.class, () -> tarefaService.atualizar(1L, updateDTO, Set.of(2L)));
+
+        verify(tarefaRepository, never()).saveAndFlush(any(Tarefa.class));
     }
 
     @Test
@@ -162,45 +326,247 @@ class TarefaServiceTest {
 
         verify(tarefaRepository, times(1)).findById(1L);
         verify(tarefaRepository, times(1)).delete(tarefa);
+        verify(tarefaRemovidaRepository, times(1)).registrarRemocao(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Deve intercalar alteradas e removidas pela data e continuar do cursor")
+    void deveListarAlteracoesDesdeOCursor() {
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 10, 0, 0);
+        tarefa.setDataAtualizacao(base);
+        Tarefa tarefa3 = new Tarefa();
+        tarefa3.setId(3L);
+        tarefa3.setTitulo("Tarefa 3");
+        tarefa3.setStatus(StatusTarefa.PENDENTE);
+        tarefa3.setPrioridade(Prioridade.BAIXA);
+        tarefa3.setDataAtualizacao(base.plusSeconds(2));
+        TarefaRemovida removida = new TarefaRemovida(2L, base.plusSeconds(1));
+
+        when(tarefaRepository.listarProjecaoAlteradas(any(LocalDateTime.class), anyLong(), any(LocalDateTime.class),
+                eq(3))).thenReturn(dtos(tarefa, tarefa3), dtos(tarefa3), List.of());
+        when(tarefaRemovidaRepository.listarRemovidasApos(any(LocalDateTime.class), anyLong(),
+                any(LocalDateTime.class), eq(Limit.of(3)))).thenReturn(List.of(removida), List.of());
+
+        AlteracoesDTO primeira = tarefaService.listarAlteracoes(null, 2);
+
+        assertEquals(List.of(1L), primeira.getAlteradas().stream().map(TarefaResponseDTO::getId).toList());
+        assertEquals(List.of(2L), primeira.getRemovidas());
+        assertTrue(primeira.isTemMais());
+
+        AlteracoesDTO segunda = tarefaService.listarAlteracoes(primeira.getNextCursor(), 2);
+
+        verify(tarefaRepository).listarProjecaoAlteradas(eq(base.plusSeconds(1)), eq(2L),
+                any(LocalDateTime.class), eq(3));
+        assertEquals(List.of(3L), segunda.getAlteradas().stream().map(TarefaResponseDTO::getId).toList());
+        assertTrue(segunda.getRemovidas().isEmpty());
+        assertFalse(segunda.isTemMais());
+
+        AlteracoesDTO semNovidades = tarefaService.listarAlteracoes(segunda.getNextCursor(), 2);
+
+        assertEquals(segunda.getNextCursor(), semNovidades.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve pedir sincronização completa para cursor mais antigo que a retenção das remoções")
+    void devePedirRessincronizacaoParaCursorExpirado() {
+        String cursor = CursorCodec.codificar(LocalDateTime.now().minusDays(366), 10L);
+
+        AlteracoesDTO alteracoes = tarefaService.listarAlteracoes(cursor, 10);
+
+        assertTrue(alteracoes.isRessincronizar());
+        assertNull(alteracoes.getNextCursor());
+        assertTrue(alteracoes.getAlteradas().isEmpty());
+        verifyNoInteractions(tarefaRemovidaRepository);
+        verify(tarefaRepository, never()).listarProjecaoAlteradas(any(), anyLong(), any(), anyInt());
     }
 
     @Test
     @DisplayName("Deve buscar tarefas por status")
     void deveBuscarTarefasPorStatus() {
-        when(tarefaRepository.findByStatus(StatusTarefa.PENDENTE)).thenReturn(Arrays.asList(tarefa));
+        when(tarefaRepository.listarProjecaoPorStatus(StatusTarefa.PENDENTE, 0L, 51, true))
+                .thenReturn(dtos(tarefa));
 
-        List<TarefaResponseDTO> resultado = tarefaService.buscarPorStatus(StatusTarefa.PENDENTE);
+        PaginaResponseDTO<TarefaResponseDTO> resultado = tarefaService.buscarPorStatus(
+                StatusTarefa.PENDENTE, null, null, null);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals(StatusTarefa.PENDENTE, resultado.get(0).getStatus());
-        verify(tarefaRepository, times(1)).findByStatus(StatusTarefa.PENDENTE);
+        assertEquals(1, resultado.getTamanho());
+        assertEquals(StatusTarefa.PENDENTE, resultado.getItens().get(0).getStatus());
+        verify(tarefaRepository, times(1)).listarProjecaoPorStatus(StatusTarefa.PENDENTE, 0L, 51, true);
     }
 
     @Test
     @DisplayName("Deve buscar tarefas por prioridade")
     void deveBuscarTarefasPorPrioridade() {
-        when(tarefaRepository.findByPrioridade(Prioridade.MEDIA)).thenReturn(Arrays.asList(tarefa));
+        when(tarefaRepository.listarProjecaoPorPrioridade(Prioridade.MEDIA, 0L, 51, true))
+                .thenReturn(dtos(tarefa));
 
-        List<TarefaResponseDTO> resultado = tarefaService.buscarPorPrioridade(Prioridade.MEDIA);
+        PaginaResponseDTO<TarefaResponseDTO> resultado = tarefaService.buscarPorPrioridade(
+                Prioridade.MEDIA, null, null, null);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals(Prioridade.MEDIA, resultado.get(0).getPrioridade());
-        verify(tarefaRepository, times(1)).findByPrioridade(Prioridade.MEDIA);
+        assertEquals(1, resultado.getTamanho());
+        assertEquals(Prioridade.MEDIA, resultado.getItens().get(0).getPrioridade());
+        verify(tarefaRepository, times(1)).listarProjecaoPorPrioridade(Prioridade.MEDIA, 0L, 51, true);
     }
 
     @Test
     @DisplayName("Deve atualizar status da tarefa")
     void deveAtualizarStatus() {
-        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
-        when(tarefaRepository.save(any(Tarefa.class))).thenReturn(tarefa);
+        tarefa.setVersao(0L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.EM_ANDAMENTO),
+                eq(StatusTarefa.PENDENTE), eq(0L), any(LocalDateTime.class))).thenReturn(1);
 
-        TarefaResponseDTO resultado = tarefaService.atualizarStatus(1L, StatusTarefa.EM_ANDAMENTO);
+        TarefaResponseDTO resultado = tarefaService.atualizarStatus(1L, StatusTarefa.EM_ANDAMENTO, null);
 
-        assertNotNull(resultado);
-        verify(tarefaRepository, times(1)).findById(1L);
-        verify(tarefaRepository, times(1)).save(any(Tarefa.class));
+        assertEquals(StatusTarefa.EM_ANDAMENTO, resultado.getStatus());
+        assertEquals(1L, resultado.getVersao());
+        verify(tarefaRepository, never()).findById(any());
+        verify(tarefaRepository, never()).save(any(Tarefa.class));
+
+        ArgumentCaptor<TarefaAlteradaEvent> evento = ArgumentCaptor.forClass(TarefaAlteradaEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, evento.getValue().getTarefa().getStatus());
+        assertEquals(StatusTarefa.PENDENTE, evento.getValue().getAnterior().getStatus());
+        assertEquals(0L, evento.getValue().getAnterior().getVersao());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status com um único UPDATE quando a tarefa está no cache")
+    void deveAtualizarStatusComTarefaDoCache() {
+        tarefa.setVersao(4L);
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(TarefaResponseDTO.fromEntity(tarefa));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(4L), any(LocalDateTime.class))).thenReturn(1);
+
+        TarefaResponseDTO resultado = tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, Set.of(4L));
+
+        assertEquals(5L, resultado.getVersao());
+        assertNotNull(resultado.getDataConclusao());
+        verify(tarefaRepository, never()).buscarProjecaoPorIds(any(), anyBoolean());
+        verify(tarefaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve ler a projeção quando a tarefa do cache está desatualizada")
+    void deveLerProjecaoQuandoCacheDesatualizado() {
+        tarefa.setVersao(4L);
+        TarefaResponseDTO emCache = TarefaResponseDTO.fromEntity(tarefa);
+        emCache.setVersao(3L);
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(emCache);
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(3L), any(LocalDateTime.class))).thenReturn(0);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(4L), any(LocalDateTime.class))).thenReturn(1);
+
+        assertEquals(5L, tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, null).getVersao());
+    }
+
+    @Test
+    @DisplayName("Não deve usar o cache quando a versão dele não está no If-Match")
+    void naoDeveUsarCacheForaDoIfMatch() {
+        tarefa.setVersao(4L);
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(CacheConfig.CACHE_TAREFAS)).thenReturn(cache);
+        when(cache.get(1L, TarefaResponseDTO.class)).thenReturn(TarefaResponseDTO.fromEntity(tarefa));
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, Set.of(3L)));
+
+        verify(tarefaRepository, never()).atualizarStatusSeNaoConcluida(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve preencher a data de conclusão ao concluir pelo status")
+    void devePreencherDataConclusaoAoConcluirPeloStatus() {
+        tarefa.setVersao(1L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        TarefaResponseDTO resultado = tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, Set.of(0L, 1L));
+
+        assertNotNull(resultado.getDataConclusao());
+        assertEquals(resultado.getDataAtualizacao(), resultado.getDataConclusao());
+    }
+
+    @Test
+    @DisplayName("Deve reler a tarefa e repetir quando ela muda entre a leitura e o UPDATE")
+    void deveRepetirQuandoTarefaMudaEntreLeituraEUpdate() {
+        Tarefa alterada = tarefa(1L);
+        alterada.setStatus(StatusTarefa.EM_ANDAMENTO);
+        alterada.setVersao(1L);
+        tarefa.setVersao(0L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa), dtos(alterada));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(0L), any(LocalDateTime.class))).thenReturn(0);
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.EM_ANDAMENTO), eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        TarefaResponseDTO resultado = tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, null);
+
+        assertEquals(2L, resultado.getVersao());
+        ArgumentCaptor<TarefaAlteradaEvent> evento = ArgumentCaptor.forClass(TarefaAlteradaEvent.class);
+        verify(eventPublisher).publishEvent(evento.capture());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, evento.getValue().getAnterior().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito quando a tarefa continua mudando a cada tentativa")
+    void deveLancarConflitoQuandoTarefaContinuaMudando() {
+        tarefa.setVersao(0L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+        when(tarefaRepository.atualizarStatusSeNaoConcluida(eq(1L), eq(StatusTarefa.CONCLUIDA),
+                eq(StatusTarefa.PENDENTE), eq(0L), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> tarefaService.atualizarStatus(1L, StatusTarefa.CONCLUIDA, null));
+
+        verify(tarefaRepository, times(3)).buscarProjecaoPorIds(List.of(1L), true);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao reabrir tarefa concluída pelo status")
+    void deveLancarExcecaoAoReabrirTarefaConcluidaPeloStatus() {
+        tarefa.setStatus(StatusTarefa.CONCLUIDA);
+        tarefa.setVersao(2L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+
+        assertThrows(BusinessException.class, () -> tarefaService.atualizarStatus(1L, StatusTarefa.PENDENTE, null));
+
+        verify(tarefaRepository, never()).atualizarStatusSeNaoConcluida(any(), any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar status com versão desatualizada")
+    void deveLancarExcecaoAoAtualizarStatusComVersaoDesatualizada() {
+        tarefa.setVersao(3L);
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true)).thenReturn(dtos(tarefa));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> tarefaService.atualizarStatus(1L, StatusTarefa.EM_ANDAMENTO, Set.of(2L)));
+
+        verify(tarefaRepository, never()).atualizarStatusSeNaoConcluida(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar status de tarefa inexistente")
+    void deveLancarExcecaoAoAtualizarStatusDeTarefaInexistente() {
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(99L), true)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> tarefaService.atualizarStatus(99L, StatusTarefa.CONCLUIDA, null));
+
+        verify(tarefaRepository, never()).atualizarStatusSeNaoConcluida(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -217,4 +583,182 @@ class TarefaServiceTest {
 
         verify(tarefaRepository, never()).save(any(Tarefa.class));
     }
+
+    @Test
+    @DisplayName("Deve buscar tarefas por termo usando o índice na ordem de relevância")
+    void deveBuscarTarefasPorTermo() {
+        Tarefa tarefa2 = new Tarefa();
+        tarefa2.setId(2L);
+        tarefa2.setTitulo("Tarefa 2");
+        tarefa2.setStatus(StatusTarefa.EM_ANDAMENTO);
+        tarefa2.setPrioridade(Prioridade.ALTA);
+
+        when(indiceBusca.buscar("tarefa", null, null, 2))
+                .thenReturn(List.of(new ResultadoBusca(2L, 3.5f), new ResultadoBusca(1L, 1.2f)));
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(2L), true))
+                .thenReturn(dtos(tarefa2));
+
+        PaginaResponseDTO<TarefaResponseDTO> resultado = tarefaService.buscarPorTermo("tarefa", null, 1, null);
+
+        assertEquals(1, resultado.getTamanho());
+        assertEquals(2L, resultado.getItens().get(0).getId());
+        assertNotNull(resultado.getNextCursor());
+
+        when(indiceBusca.buscar("tarefa", 3.5f, 2L, 2))
+                .thenReturn(List.of(new ResultadoBusca(1L, 1.2f)));
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L), true))
+                .thenReturn(dtos(tarefa));
+
+        PaginaResponseDTO<TarefaResponseDTO> segunda = tarefaService.buscarPorTermo(
+                "tarefa", resultado.getNextCursor(), 1, null);
+
+        assertEquals(1L, segunda.getItens().get(0).getId());
+        assertNull(segunda.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar pelos bitmaps e descartar tarefas que mudaram desde a indexação")
+    void deveFiltrarPorBitmapsDescartandoTarefasAlteradas() {
+        Set<StatusTarefa> status = Set.of(StatusTarefa.PENDENTE);
+        Set<Prioridade> prioridades = Set.of(Prioridade.MEDIA, Prioridade.ALTA);
+        Tarefa concluida = tarefa(2L);
+        when(indiceFiltro.filtrar(status, prioridades, 0L, 3))
+                .thenReturn(new ResultadoFiltro(List.of(1L, 2L, 3L), 7,
+                        Map.of(StatusTarefa.PENDENTE, 7L), Map.of(Prioridade.MEDIA, 7L)));
+        when(tarefaRepository.buscarProjecaoPorIds(List.of(1L, 2L), false))
+                .thenReturn(dtos(concluida, tarefa));
+
+        FiltroResponseDTO resultado = tarefaService.filtrar(status, prioridades, null, 2, CamposTarefa.RESUMO);
+
+        assertEquals(List.of(1L), resultado.getItens().stream().map(TarefaResponseDTO::getId).toList());
+        assertEquals(7, resultado.getTotal());
+        assertEquals(7L, resultado.getPorStatus().get(StatusTarefa.PENDENTE));
+        assertNotNull(resultado.getNextCursor());
+
+        when(indiceFiltro.filtrar(status, prioridades, 2L, 3))
+                .thenReturn(new ResultadoFiltro(List.of(), 0, Map.of(), Map.of()));
+
+        FiltroResponseDTO segunda = tarefaService.filtrar(
+                status, prioridades, resultado.getNextCursor(), 2, CamposTarefa.RESUMO);
+
+        assertTrue(segunda.getItens().isEmpty());
+        assertNull(segunda.getNextCursor());
+        verify(tarefaRepository, times(1)).buscarProjecaoPorIds(any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Deve listar tarefas ordenadas continuando do cursor por rank de prioridade")
+    void deveListarOrdenadasAPartirDoCursor() {
+        tarefa.setPrioridade(Prioridade.URGENTE);
+        tarefa.setPrioridadeRank(Prioridade.URGENTE.getRank());
+        Tarefa tarefa2 = new Tarefa();
+        tarefa2.setId(2L);
+        tarefa2.setTitulo("Tarefa 2");
+        tarefa2.setStatus(StatusTarefa.PENDENTE);
+        tarefa2.setPrioridade(Prioridade.BAIXA);
+        tarefa2.setPrioridadeRank(Prioridade.BAIXA.getRank());
+        tarefa2.setDataCriacao(LocalDateTime.now());
+
+        when(tarefaRepository.listarProjecaoOrdenada(null, null, null, 2, true))
+                .thenReturn(dtos(tarefa, tarefa2));
+
+        PaginaResponseDTO<TarefaResponseDTO> primeira = tarefaService.listarOrdenadas(null, 1, null);
+
+        assertEquals(Prioridade.URGENTE, primeira.getItens().get(0).getPrioridade());
+
+        when(tarefaRepository.listarProjecaoOrdenada(
+                Prioridade.URGENTE.getRank(), tarefa.getDataCriacao(), 1L, 2, true))
+                .thenReturn(dtos(tarefa2));
+
+        PaginaResponseDTO<TarefaResponseDTO> segunda = tarefaService.listarOrdenadas(
+                primeira.getNextCursor(), 1, null);
+
+        assertEquals(Prioridade.BAIXA, segunda.getItens().get(0).getPrioridade());
+        assertNull(segunda.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Deve criar tarefas em lote informando o resultado de cada item")
+    void deveCriarTarefasEmLote() {
+        TarefaRequestDTO semTitulo = new TarefaRequestDTO();
+        semTitulo.setTitulo(" ");
+        semTitulo.setStatus(StatusTarefa.PENDENTE);
+        semTitulo.setPrioridade(Prioridade.MEDIA);
+
+        doAnswer(invocacao -> {
+            Tarefa nova = invocacao.getArgument(0);
+            nova.setId(10L);
+            return null;
+        }).when(entityManager).persist(any(Tarefa.class));
+
+        LoteResultadoDTO resultado = tarefaService.criarLote(List.of(semTitulo, tarefaRequestDTO));
+
+        assertEquals(2, resultado.getTotal());
+        assertEquals(1, resultado.getSucessos());
+        assertFalse(resultado.getItens().get(0).isSucesso());
+        assertEquals("O título da tarefa é obrigatório", resultado.getItens().get(0).getErro());
+        assertTrue(resultado.getItens().get(1).isSucesso());
+        assertEquals(10L, resultado.getItens().get(1).getId());
+        verify(entityManager, times(1)).persist(any(Tarefa.class));
+        verify(entityManager, atLeastOnce()).flush();
+        verify(eventPublisher, times(1)).publishEvent(any(TarefaAlteradaEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao criar lote vazio")
+    void deveLancarExcecaoAoCriarLoteVazio() {
+        assertThrows(BusinessException.class, () -> {
+            tarefaService.criarLote(List.of());
+        });
+
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar status em lote rejeitando tarefas inexistentes e concluídas")
+    void deveAtualizarStatusEmLote() {
+        Tarefa concluida = new Tarefa();
+        concluida.setId(2L);
+        concluida.setTitulo("Concluída");
+        concluida.setStatus(StatusTarefa.CONCLUIDA);
+        concluida.setPrioridade(Prioridade.BAIXA);
+
+        when(tarefaRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(tarefa, concluida));
+
+        LoteResultadoDTO resultado = tarefaService.atualizarStatusLote(
+                List.of(1L, 2L, 3L), StatusTarefa.EM_ANDAMENTO);
+
+        assertEquals(1, resultado.getSucessos());
+        assertEquals(2, resultado.getFalhas());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, tarefa.getStatus());
+        assertEquals("Não é possível reabrir uma tarefa concluída", resultado.getItens().get(1).getErro());
+        assertEquals("Tarefa não encontrada com ID: 3", resultado.getItens().get(2).getErro());
+        verify(entityManager, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("Deve deletar tarefas em lote com um único comando")
+    void deveDeletarTarefasEmLote() {
+        when(tarefaRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(tarefa));
+
+        LoteResultadoDTO resultado = tarefaService.deletarLote(List.of(1L, 99L));
+
+        assertEquals(1, resultado.getSucessos());
+        assertFalse(resultado.getItens().get(1).isSucesso());
+        verify(tarefaRemovidaRepository, times(1)).registrarRemocao(eq(Set.of(1L)), any(LocalDateTime.class));
+        verify(tarefaRepository, times(1)).deleteAllByIdInBatch(Set.of(1L));
+    }
+
+    private static Tarefa tarefa(Long id) {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setId(id);
+        tarefa.setTitulo("Tarefa " + id);
+        tarefa.setStatus(StatusTarefa.CONCLUIDA);
+        tarefa.setPrioridade(Prioridade.BAIXA);
+        return tarefa;
+    }
+
+    private static List<TarefaResponseDTO> dtos(Tarefa... tarefas) {
+        return Arrays.stream(tarefas).map(TarefaResponseDTO::fromEntity).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,137 @@
+package com.estagio.tarefas.snapshot;
+
+import com.estagio.tarefas.dto.CamposTarefa;
+import com.estagio.tarefas.dto.PaginaResponseDTO;
+import com.estagio.tarefas.dto.TarefaResponseDTO;
+import com.estagio.tarefas.model.Prioridade;
+import com.estagio.tarefas.model.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotTarefasTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 10, 0, 0, 123_456_000);
+
+    private SnapshotTarefas snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new SnapshotTarefas();
+    }
+
+    @Test
+    @DisplayName("Deve paginar por status em ordem de ID preservando todos os campos")
+    void devePaginarPorStatus() {
+        snapshot.atualizar(List.of(
+                tarefa(30L, StatusTarefa.PENDENTE, Prioridade.ALTA, BASE, "Revisão ç", null, 0L),
+                tarefa(10L, StatusTarefa.PENDENTE, Prioridade.BAIXA, BASE, "Primeira", "Descrição", 2L),
+                tarefa(20L, StatusTarefa.CONCLUIDA, Prioridade.BAIXA, BASE, "Concluída", "Feita", 1L)));
+
+        PaginaResponseDTO<TarefaResponseDTO> primeira = snapshot.buscarPorStatus(
+                StatusTarefa.PENDENTE, null, 1, CamposTarefa.COMPLETO);
+        PaginaResponseDTO<TarefaResponseDTO> segunda = snapshot.buscarPorStatus(
+                StatusTarefa.PENDENTE, primeira.getNextCursor(), 1, CamposTarefa.COMPLETO);
+
+        assertEquals(tarefa(10L, StatusTarefa.PENDENTE, Prioridade.BAIXA, BASE, "Primeira", "Descrição", 2L),
+                primeira.getItens().get(0));
+        assertEquals(30L, segunda.getItens().get(0).getId());
+        assertNull(segunda.getItens().get(0).getDescricao());
+        assertNull(segunda.getNextCursor());
+        assertNull(snapshot.buscarPorPrioridade(Prioridade.BAIXA, null, 10, CamposTarefa.RESUMO)
+                .getItens().get(0).getDescricao());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar versões antigas e tarefas removidas durante a carga ou antes de um evento atrasado")
+    void deveIgnorarVersoesAntigasERemocoesDuranteCarga() {
+        snapshot.atualizar(List.of(tarefa(1L, StatusTarefa.EM_ANDAMENTO, Prioridade.MEDIA, BASE, "Nova", null, 3L)));
+        snapshot.atualizar(List.of(tarefa(1L, StatusTarefa.PENDENTE, Prioridade.MEDIA, BASE, "Antiga", null, 2L)));
+        snapshot.remover(2L);
+        snapshot.atualizar(List.of(tarefa(2L, StatusTarefa.PENDENTE, Prioridade.MEDIA, BASE, "Removida", null, 0L)));
+        snapshot.atualizar(List.of(tarefa(2L, StatusTarefa.CONCLUIDA, Prioridade.MEDIA, BASE, "Atrasada", null, 1L)));
+        assertFalse(snapshot.pronto());
+
+        snapshot.concluirCarga();
+
+        assertTrue(snapshot.pronto());
+        assertEquals(1, snapshot.quantidade());
+        TarefaResponseDTO tarefa = snapshot.listarOrdenadas(null, 10, CamposTarefa.COMPLETO).getItens().get(0);
+        assertEquals("Nova", tarefa.getTitulo());
+        assertEquals(StatusTarefa.EM_ANDAMENTO, tarefa.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve manter as listagens iguais às de uma cópia de referência após inclusões, alterações e remoções")
+    void deveManterListagensConsistentes() {
+        Random aleatorio = new Random(42);
+        Map<Long, TarefaResponseDTO> referencia = new TreeMap<>();
+        Set<Long> removidas = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            long id = 1 + aleatorio.nextInt(4_000);
+            if (aleatorio.nextInt(10) == 0) {
+                snapshot.remover(id);
+                referencia.remove(id);
+                removidas.add(id);
+            } else {
+                TarefaResponseDTO anterior = referencia.get(id);
+                TarefaResponseDTO tarefa = tarefa(id,
+                        StatusTarefa.values()[aleatorio.nextInt(StatusTarefa.values().length)],
+                        Prioridade.values()[aleatorio.nextInt(Prioridade.values().length)],
+                        anterior != null ? anterior.getDataCriacao() : BASE.plusSeconds(aleatorio.nextInt(500)),
+                        "Tarefa " + id + " ção".repeat(aleatorio.nextInt(20)),
+                        aleatorio.nextBoolean() ? null : "d".repeat(aleatorio.nextInt(500)),
+                        anterior != null ? anterior.getVersao() + 1 : 0L);
+                snapshot.atualizar(List.of(tarefa));
+                if (!removidas.contains(id)) {
+                    referencia.put(id, tarefa);
+                }
+            }
+        }
+
+        for (StatusTarefa status : StatusTarefa.values()) {
+            assertEquals(referencia.values().stream().filter(t -> t.getStatus() == status).toList(),
+                    percorrer(cursor -> snapshot.buscarPorStatus(status, cursor, 37, CamposTarefa.COMPLETO)));
+        }
+        for (Prioridade prioridade : Prioridade.values()) {
+            assertEquals(referencia.values().stream().filter(t -> t.getPrioridade() == prioridade).toList(),
+                    percorrer(cursor -> snapshot.buscarPorPrioridade(prioridade, cursor, 43, CamposTarefa.COMPLETO)));
+        }
+        List<TarefaResponseDTO> ordenadas = new ArrayList<>(referencia.values());
+        ordenadas.sort(Comparator.comparing((TarefaResponseDTO t) -> t.getPrioridade().getRank())
+                .thenComparing(TarefaResponseDTO::getDataCriacao)
+                .thenComparing(TarefaResponseDTO::getId));
+        assertEquals(ordenadas, percorrer(cursor -> snapshot.listarOrdenadas(cursor, 41, CamposTarefa.COMPLETO)));
+    }
+
+    private static List<TarefaResponseDTO> percorrer(Function<String, PaginaResponseDTO<TarefaResponseDTO>> pagina) {
+        List<TarefaResponseDTO> todas = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaResponseDTO<TarefaResponseDTO> atual = pagina.apply(cursor);
+            todas.addAll(atual.getItens());
+            cursor = atual.getNextCursor();
+        } while (cursor != null);
+        return todas;
+    }
+
+    private static TarefaResponseDTO tarefa(Long id, StatusTarefa status, Prioridade prioridade,
+                                            LocalDateTime dataCriacao, String titulo, String descricao, Long versao) {
+        LocalDateTime conclusao = status == StatusTarefa.CONCLUIDA ? dataCriacao.plusHours(1) : null;
+        return new TarefaResponseDTO(id, titulo, descricao, status, prioridade, dataCriacao,
+                dataCriacao.plusMinutes(versao), conclusao, versao);
+    }
+}